@@ -0,0 +1,72 @@
+package com.ssctech.ssctech_test_task.benchmarks;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for the async lanes: one thread keeps submitting tiny keys while two others keep
+ * the pool busy with multi-megabyte documents. Compare the sampled p99 of {@code tiny} with
+ * {@code lanes=true} (size-based lanes) against {@code lanes=false} (one shared pool).
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class AsyncLatencyBenchmark {
+
+    @Param({"true", "false"})
+    public boolean lanes;
+
+    @Param({"4194304"})
+    public int largeSize;
+
+    private LengthEncoding encoding;
+    private String tinyKey;
+    private String largeDocument;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EncodingProperties properties = new EncodingProperties();
+        properties.getAsync().setThreads(2);
+        properties.getAsync().setLargeThreads(2);
+        if (!lanes) {
+            properties.getAsync().setLaneThreshold(Integer.MAX_VALUE);
+        }
+        encoding = new LengthEncodingService(properties);
+        tinyKey = new String(Corpus.SHORT_RUNS.generate(64));
+        largeDocument = new String(Corpus.ZIPF_RUNS.generate(largeSize));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public String tiny() {
+        return encoding.encodeAsync(tinyKey).join();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public String large() {
+        return encoding.encodeAsync(largeDocument).join();
+    }
+}
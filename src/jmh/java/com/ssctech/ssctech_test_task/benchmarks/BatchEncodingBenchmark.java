@@ -0,0 +1,81 @@
+package com.ssctech.ssctech_test_task.benchmarks;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of encoding many short keys (10 to 200 chars) one {@code encode} call at a time versus
+ * one {@link LengthEncoding#encodeAll(String[], String[])} call, sequentially and with the
+ * batch split across cores. Results are per batch of {@code count} keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class BatchEncodingBenchmark {
+
+    @Param({"1000", "100000"})
+    public int count;
+
+    @Param({"SHORT_RUNS", "ALL_UNIQUE"})
+    public Corpus corpus;
+
+    private LengthEncoding sequentialEncoding;
+    private LengthEncoding parallelEncoding;
+    private String[] keys;
+    private String[] output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EncodingProperties sequential = new EncodingProperties();
+        sequential.getParallel().setEnabled(false);
+        sequentialEncoding = new LengthEncodingService(sequential);
+        parallelEncoding = new LengthEncodingService();
+
+        SplittableRandom random = new SplittableRandom(count);
+        char[] text = corpus.generate(count * 200);
+        keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = new String(text, i * 200, 10 + random.nextInt(191));
+        }
+        output = new String[count];
+    }
+
+    @Benchmark
+    public String[] encodeEach() {
+        for (int i = 0; i < keys.length; i++) {
+            output[i] = sequentialEncoding.encode(keys[i]);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public String[] encodeAll() {
+        sequentialEncoding.encodeAll(keys, output);
+        return output;
+    }
+
+    @Benchmark
+    public String[] encodeAllParallel() {
+        parallelEncoding.encodeAll(keys, output);
+        return output;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ssctech.ssctech_test_task.benchmarks;
+
+import com.ssctech.ssctech_test_task.services.codec.HuffmanRunLengthCodec;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+import com.ssctech.ssctech_test_task.services.codec.VarintRunLengthCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode throughput of the binary {@link RunLengthCodec}s over the same corpora as
+ * {@link LengthEncodingBenchmark}, whose {@code encodeString}/{@code decodeString} results are
+ * the textual baseline. {@code inputBytes} counts UTF-16 bytes of decoded text.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({"1024", "1048576", "16777216"})
+    public int size;
+
+    @Param
+    public Corpus corpus;
+
+    @Param({"VARINT_UTF8", "HUFFMAN_UTF8"})
+    public String codecName;
+
+    private RunLengthCodec codec;
+    private String string;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = switch (codecName) {
+            case "VARINT_UTF8" -> VarintRunLengthCodec.UTF8;
+            case "HUFFMAN_UTF8" -> HuffmanRunLengthCodec.UTF8;
+            default -> throw new IllegalArgumentException("Unknown codec " + codecName);
+        };
+        string = new String(corpus.generate(size));
+        encoded = codec.encode(string);
+    }
+
+    @Benchmark
+    public byte[] encode(LengthEncodingBenchmark.InputBytes bytes) {
+        bytes.inputBytes += (long) string.length() * Character.BYTES;
+        return codec.encode(string);
+    }
+
+    @Benchmark
+    public String decode(LengthEncodingBenchmark.InputBytes bytes) {
+        bytes.inputBytes += (long) string.length() * Character.BYTES;
+        return codec.decode(encoded);
+    }
+}
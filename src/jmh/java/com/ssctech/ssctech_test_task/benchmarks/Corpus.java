@@ -0,0 +1,132 @@
+package com.ssctech.ssctech_test_task.benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic benchmark inputs with a controlled run-length distribution.
+ *
+ * <p>Every corpus is generated from a fixed seed, so two runs of the suite
+ * (and two forks of the same run) encode exactly the same characters and the
+ * JSON results stay comparable between commits.
+ */
+public enum Corpus {
+
+    /** No two adjacent characters are equal: worst case, every run has length 1. */
+    ALL_UNIQUE {
+        @Override
+        int nextRunLength(SplittableRandom random) {
+            return 1;
+        }
+    },
+
+    /** Runs of 1 to 4 characters, typical for natural-language text. */
+    SHORT_RUNS {
+        @Override
+        int nextRunLength(SplittableRandom random) {
+            return 1 + random.nextInt(4);
+        }
+    },
+
+    /** Runs of 256 to 8192 characters: padding, blank fills, sparse columns. */
+    LONG_RUNS {
+        @Override
+        int nextRunLength(SplittableRandom random) {
+            return 256 + random.nextInt(8192 - 256 + 1);
+        }
+    },
+
+    /** Run lengths drawn from a Zipf distribution (s = 1.2, k = 1..65536). */
+    ZIPF_RUNS {
+        @Override
+        int nextRunLength(SplittableRandom random) {
+            return ZipfTable.sample(random.nextDouble());
+        }
+    },
+
+    /** Short runs over Latin-1, Cyrillic, CJK and supplementary (surrogate pair) symbols. */
+    MIXED_UNICODE {
+        private static final char[] SYMBOLS = "aZ9éßЖЯжя中文字日本語한글".toCharArray();
+        private static final String SUPPLEMENTARY = "😀🚀𝐀";
+
+        @Override
+        int nextRunLength(SplittableRandom random) {
+            return 1 + random.nextInt(8);
+        }
+
+        @Override
+        int fillRun(char[] target, int position, int runLength, char previous, SplittableRandom random) {
+            if (random.nextInt(8) == 0 && position + 2 <= target.length) {
+                int pair = random.nextInt(SUPPLEMENTARY.length() / 2) * 2;
+                int end = Math.min(target.length - 1, position + runLength * 2);
+                while (position < end) {
+                    target[position++] = SUPPLEMENTARY.charAt(pair);
+                    target[position++] = SUPPLEMENTARY.charAt(pair + 1);
+                }
+                return position;
+            }
+            return super.fillRun(target, position, runLength, nextSymbol(SYMBOLS, previous, random), random);
+        }
+    };
+
+    private static final char[] ALPHANUMERIC =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+    private static final long SEED = 0x5EED_C0DEL;
+
+    abstract int nextRunLength(SplittableRandom random);
+
+    public char[] generate(int size) {
+        SplittableRandom random = new SplittableRandom(SEED ^ ordinal());
+        char[] result = new char[size];
+        int position = 0;
+        char previous = 0;
+
+        while (position < size) {
+            position = fillRun(result, position, nextRunLength(random),
+                    nextSymbol(ALPHANUMERIC, previous, random), random);
+            previous = result[position - 1];
+        }
+
+        return result;
+    }
+
+    int fillRun(char[] target, int position, int runLength, char symbol, SplittableRandom random) {
+        int end = Math.min(target.length, position + runLength);
+        Arrays.fill(target, position, end, symbol);
+        return end;
+    }
+
+    static char nextSymbol(char[] alphabet, char previous, SplittableRandom random) {
+        char symbol;
+        do {
+            symbol = alphabet[random.nextInt(alphabet.length)];
+        } while (symbol == previous);
+        return symbol;
+    }
+
+    private static final class ZipfTable {
+
+        private static final double EXPONENT = 1.2;
+        private static final int MAX_RUN = 65_536;
+        private static final double[] CDF = buildCdf();
+
+        private static double[] buildCdf() {
+            double[] cdf = new double[MAX_RUN];
+            double sum = 0;
+            for (int k = 1; k <= MAX_RUN; k++) {
+                sum += 1.0 / Math.pow(k, EXPONENT);
+                cdf[k - 1] = sum;
+            }
+            for (int i = 0; i < cdf.length; i++) {
+                cdf[i] /= sum;
+            }
+            return cdf;
+        }
+
+        static int sample(double uniform) {
+            int index = Arrays.binarySearch(CDF, uniform);
+            return (index >= 0 ? index : -index - 1) + 1;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.ssctech.ssctech_test_task.benchmarks;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.services.EncodingBufferPool;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link LengthEncoding#encode(char[])} and {@link LengthEncoding#encode(String)}
+ * (plus the byte, streaming and decoding paths) across run-length distributions and input sizes
+ * from 16 chars to 256 MB.
+ *
+ * <p>Besides ops/s, every benchmark reports {@code inputBytes} (bytes of decoded text processed
+ * per second: UTF-16 for char inputs, one per char for Latin-1 inputs)
+ * through {@link InputBytes}; allocation per op comes from {@code -prof gc}, which the
+ * {@code jmh} Maven profile always enables. {@code lengthEncoding} runs with the parallel mode
+ * disabled, so {@code encodeCharArray} stays the sequential baseline for
+ * {@code encodeCharArrayParallel}; {@code encodeCharArrayScalar} additionally turns off the
+ * Vector API run scanner. {@code encodeStringInstrumented} is {@code encodeString} with metrics
+ * recorded into a {@code SimpleMeterRegistry}, to keep the instrumentation overhead in view.
+ * {@code encodeIntoPooled} is the allocation-free path and should
+ * report close to 0 B/op in {@code gc.alloc.rate.norm}. The largest size needs several GB of heap,
+ * hence the fixed {@code -Xmx} below.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class LengthEncodingBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576", "16777216", "268435456"})
+    public int size;
+
+    @Param
+    public Corpus corpus;
+
+    private LengthEncoding lengthEncoding;
+    private LengthEncoding parallelEncoding;
+    private LengthEncoding scalarEncoding;
+    private LengthEncoding instrumentedEncoding;
+    private char[] chars;
+    private String string;
+    private byte[] latin1;
+    private ByteBuffer directLatin1;
+    private String encoded;
+    private char[] encodedChars;
+    private EncodingBufferPool bufferPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EncodingProperties sequential = new EncodingProperties();
+        sequential.getParallel().setEnabled(false);
+        lengthEncoding = new LengthEncodingService(sequential);
+        parallelEncoding = new LengthEncodingService();
+
+        EncodingProperties scalar = new EncodingProperties();
+        scalar.getParallel().setEnabled(false);
+        scalar.setVectorized(false);
+        scalarEncoding = new LengthEncodingService(scalar);
+        instrumentedEncoding = new LengthEncodingService(sequential, new SimpleMeterRegistry());
+        chars = corpus.generate(size);
+        string = new String(chars);
+        latin1 = new byte[size];
+        for (int i = 0; i < size; i++) {
+            latin1[i] = (byte) chars[i];
+        }
+        directLatin1 = ByteBuffer.allocateDirect(size).put(latin1).flip();
+        encoded = lengthEncoding.encode(chars, EncodingFormat.ESCAPED);
+        encodedChars = encoded.toCharArray();
+        bufferPool = new EncodingBufferPool(1, lengthEncoding.encodedLength(chars, 0, size));
+    }
+
+    @Benchmark
+    public String encodeCharArray(InputBytes bytes) {
+        bytes.inputBytes += (long) chars.length * Character.BYTES;
+        return lengthEncoding.encode(chars);
+    }
+
+    @Benchmark
+    public String encodeCharArrayScalar(InputBytes bytes) {
+        bytes.inputBytes += (long) chars.length * Character.BYTES;
+        return scalarEncoding.encode(chars);
+    }
+
+    @Benchmark
+    public String encodeCharArrayParallel(InputBytes bytes) {
+        bytes.inputBytes += (long) chars.length * Character.BYTES;
+        return parallelEncoding.encode(chars);
+    }
+
+    @Benchmark
+    public int encodeIntoPooled(InputBytes bytes) {
+        bytes.inputBytes += (long) chars.length * Character.BYTES;
+        char[] output = bufferPool.acquire(bufferPool.bufferLength());
+        try {
+            return lengthEncoding.encodeInto(chars, 0, chars.length, output, 0);
+        } finally {
+            bufferPool.release(output);
+        }
+    }
+
+    @Benchmark
+    public String encodeString(InputBytes bytes) {
+        bytes.inputBytes += (long) string.length() * Character.BYTES;
+        return lengthEncoding.encode(string);
+    }
+
+    @Benchmark
+    public String encodeStringInstrumented(InputBytes bytes) {
+        bytes.inputBytes += (long) string.length() * Character.BYTES;
+        return instrumentedEncoding.encode(string);
+    }
+
+    @Benchmark
+    public String encodeLatin1Bytes(InputBytes bytes) {
+        bytes.inputBytes += latin1.length;
+        return lengthEncoding.encode(latin1);
+    }
+
+    @Benchmark
+    public String encodeDirectByteBuffer(InputBytes bytes) {
+        bytes.inputBytes += directLatin1.remaining();
+        return lengthEncoding.encode(directLatin1);
+    }
+
+    @Benchmark
+    public int encodeReader(InputBytes bytes) throws IOException {
+        bytes.inputBytes += (long) chars.length * Character.BYTES;
+        CountingAppendable output = new CountingAppendable();
+        lengthEncoding.encode(new CharArrayReader(chars), output);
+        return output.length;
+    }
+
+    @Benchmark
+    public String decodeString(InputBytes bytes) {
+        bytes.inputBytes += (long) chars.length * Character.BYTES;
+        return lengthEncoding.decode(encoded, EncodingFormat.ESCAPED);
+    }
+
+    @Benchmark
+    public char[] decodeCharArray(InputBytes bytes) {
+        bytes.inputBytes += (long) chars.length * Character.BYTES;
+        return lengthEncoding.decode(encodedChars, EncodingFormat.ESCAPED);
+    }
+
+    /**
+     * Secondary result reported as a rate, which JMH prints as {@code inputBytes} ops/s,
+     * i.e. bytes/s of UTF-16 input.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class InputBytes {
+
+        public long inputBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            inputBytes = 0;
+        }
+    }
+
+    /**
+     * Discards streamed output so the streaming benchmark measures encoding, not buffer growth.
+     */
+    private static final class CountingAppendable implements Appendable {
+
+        private int length;
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            length += csq.length();
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            length += end - start;
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            length++;
+            return this;
+        }
+    }
+}
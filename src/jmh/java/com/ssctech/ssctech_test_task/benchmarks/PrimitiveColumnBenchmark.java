@@ -0,0 +1,79 @@
+package com.ssctech.ssctech_test_task.benchmarks;
+
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import com.ssctech.ssctech_test_task.services.codec.PrimitiveRunLengthCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run-length encoding of an {@code int[]} column with {@link PrimitiveRunLengthCodec} against
+ * the textual workaround of formatting the numbers into a string for
+ * {@link LengthEncoding#encode(String)}. {@code runLength} is the average run length of a
+ * sorted, low-cardinality column.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules=jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class PrimitiveColumnBenchmark {
+
+    @Param({"1048576"})
+    public int size;
+
+    @Param({"1", "16", "1024"})
+    public int runLength;
+
+    private final LengthEncoding lengthEncoding = new LengthEncodingService();
+    private int[] column;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        column = new int[size];
+        int value = 0;
+        for (int i = 0; i < size; ) {
+            int end = Math.min(size, i + 1 + random.nextInt(2 * runLength - 1));
+            value += 1 + random.nextInt(100);
+            for (; i < end; i++) {
+                column[i] = value;
+            }
+        }
+        encoded = PrimitiveRunLengthCodec.encode(column);
+    }
+
+    @Benchmark
+    public byte[] encodePrimitive() {
+        return PrimitiveRunLengthCodec.encode(column);
+    }
+
+    @Benchmark
+    public int[] decodePrimitive() {
+        return PrimitiveRunLengthCodec.decodeInts(encoded);
+    }
+
+    @Benchmark
+    public String encodeFormatted() {
+        StringBuilder text = new StringBuilder(size * 8);
+        for (int value : column) {
+            text.append(value).append(',');
+        }
+        return lengthEncoding.encode(text.toString());
+    }
+}
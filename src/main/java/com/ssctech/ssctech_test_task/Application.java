@@ -1,12 +1,28 @@
 package com.ssctech.ssctech_test_task;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+import java.util.Arrays;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class Application {
 
     public static void main(String[] args) {
+        if (args.length > 0 && EncodeCommand.NAME.equals(args[0])) {
+            EncodeCommand.main(args);
+            return;
+        }
+        if (Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + BatchEncodeRunner.INPUT_OPTION + "="))) {
+            System.exit(SpringApplication.exit(new SpringApplicationBuilder(Application.class)
+                    .web(WebApplicationType.NONE)
+                    .run(args)));
+            return;
+        }
         SpringApplication.run(Application.class, args);
     }
 }
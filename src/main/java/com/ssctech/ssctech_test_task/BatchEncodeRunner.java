@@ -0,0 +1,119 @@
+package com.ssctech.ssctech_test_task;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.services.DirectoryEncodingPipeline;
+import com.ssctech.ssctech_test_task.services.FileEncodingService;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Batch job mode that encodes a whole directory tree through {@link DirectoryEncodingPipeline}:
+ * {@code java -jar app.jar --batch.in=<dir> --batch.out=<dir> [--batch.format=classic|escaped]}.
+ *
+ * <p>{@link Application#main} starts the context without the web server when
+ * {@code --batch.in} is given and exits with {@link #getExitCode()} once this runner is done:
+ * 0 when every file was encoded, 1 when some failed, 2 for bad options. Without
+ * {@code --batch.in} the runner does nothing. Progress goes to standard output every
+ * {@code app.encoding.batch.progress-interval-millis}; rerunning the same command after a crash
+ * resumes from the checkpoint manifest.
+ */
+@Component
+public class BatchEncodeRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    static final String INPUT_OPTION = "batch.in";
+    static final String OUTPUT_OPTION = "batch.out";
+    static final String FORMAT_OPTION = "batch.format";
+
+    private static final String USAGE = "Usage: --batch.in=<dir> --batch.out=<dir> [--batch.format=classic|escaped]";
+
+    private final DirectoryEncodingPipeline pipeline;
+    private final PrintStream out;
+    private final PrintStream err;
+    private int exitCode;
+
+    @Autowired
+    public BatchEncodeRunner(LengthEncoding lengthEncoding, FileEncodingService fileEncodingService,
+                             EncodingProperties properties) {
+        this(new DirectoryEncodingPipeline(lengthEncoding, fileEncodingService, properties.getBatch()),
+                System.out, System.err);
+    }
+
+    BatchEncodeRunner(DirectoryEncodingPipeline pipeline, PrintStream out, PrintStream err) {
+        this.pipeline = pipeline;
+        this.out = out;
+        this.err = err;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!args.containsOption(INPUT_OPTION)) {
+            return;
+        }
+
+        Path input;
+        Path output;
+        EncodingFormat format;
+        try {
+            input = Path.of(single(args, INPUT_OPTION));
+            output = Path.of(single(args, OUTPUT_OPTION));
+            format = args.containsOption(FORMAT_OPTION)
+                    ? EncodingFormat.valueOf(single(args, FORMAT_OPTION).toUpperCase(Locale.ROOT))
+                    : EncodingFormat.CLASSIC;
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            exitCode = 2;
+            return;
+        }
+
+        try {
+            long startTime = System.nanoTime();
+            DirectoryEncodingPipeline.Progress progress = pipeline.encode(input, output, format,
+                    new DirectoryEncodingPipeline.Listener() {
+
+                        @Override
+                        public void progress(DirectoryEncodingPipeline.Progress progress) {
+                            out.printf("%d/%d files done, %d skipped, %d failed, %d bytes into %d bytes%n",
+                                    progress.totalFiles() - progress.remainingFiles(), progress.totalFiles(),
+                                    progress.skippedFiles(), progress.failedFiles(),
+                                    progress.bytesRead(), progress.bytesWritten());
+                        }
+
+                        @Override
+                        public void failed(String file, Exception cause) {
+                            err.println("Encoding " + file + " failed: " + cause.getMessage());
+                        }
+                    });
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            out.printf("Encoded %d files in %d ms%n", progress.encodedFiles(), elapsedMillis);
+            exitCode = progress.failedFiles() == 0 ? 0 : 1;
+        } catch (IOException | IllegalArgumentException e) {
+            err.println("Encoding failed: " + e.getMessage());
+            exitCode = 1;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private static String single(ApplicationArguments args, String option) {
+        List<String> values = args.getOptionValues(option);
+        if (values == null || values.size() != 1 || values.getFirst().isEmpty()) {
+            throw new IllegalArgumentException("Exactly one value is required for --" + option);
+        }
+        return values.getFirst();
+    }
+}
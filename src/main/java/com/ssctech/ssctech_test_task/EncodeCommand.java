@@ -0,0 +1,71 @@
+package com.ssctech.ssctech_test_task;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.services.FileEncodingService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command line entry point that encodes one file into another without starting the Spring
+ * context: {@code java -jar app.jar encode --in <file> --out <file> [--format classic|escaped]}.
+ *
+ * <p>{@link Application#main} hands over to this class when the first argument is
+ * {@value #NAME}.
+ */
+public final class EncodeCommand {
+
+    static final String NAME = "encode";
+
+    private static final String USAGE = "Usage: encode --in <file> --out <file> [--format classic|escaped]";
+
+    private EncodeCommand() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Path input = null;
+        Path output = null;
+        EncodingFormat format = EncodingFormat.CLASSIC;
+
+        int start = args.length > 0 && NAME.equals(args[0]) ? 1 : 0;
+        try {
+            for (int i = start; i < args.length; i += 2) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--in" -> input = Path.of(value);
+                    case "--out" -> output = Path.of(value);
+                    case "--format" -> format = EncodingFormat.valueOf(value.toUpperCase(Locale.ROOT));
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (input == null || output == null) {
+                throw new IllegalArgumentException("Both --in and --out are required");
+            }
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+
+        try {
+            long startTime = System.nanoTime();
+            long written = new FileEncodingService().encode(input, output, format);
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            out.printf("Encoded %d bytes into %d bytes in %d ms%n", Files.size(input), written, elapsedMillis);
+            return 0;
+        } catch (IOException | IllegalArgumentException e) {
+            err.println("Encoding failed: " + e.getMessage());
+            return 1;
+        }
+    }
+}
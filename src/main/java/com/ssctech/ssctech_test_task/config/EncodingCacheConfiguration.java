@@ -0,0 +1,55 @@
+package com.ssctech.ssctech_test_task.config;
+
+import com.ssctech.ssctech_test_task.services.CachingLengthEncoding;
+import com.ssctech.ssctech_test_task.services.CoalescingLengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Puts a {@link CachingLengthEncoding} in front of {@link LengthEncodingService} when
+ * {@code app.encoding.cache.enabled} is set. The decorator is {@link Primary}, so everything
+ * injecting {@code LengthEncoding} goes through the cache while the service itself stays
+ * available by its own type. When {@link EncodingCoalescingConfiguration} provides a
+ * {@link CoalescingLengthEncoding}, the cache wraps that instead, so misses are coalesced. With
+ * a {@link MeterRegistry}, the cache counters are published as {@code rle.cache.*} meters.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.encoding.cache", name = "enabled", havingValue = "true")
+public class EncodingCacheConfiguration {
+
+    @Bean
+    @Primary
+    public CachingLengthEncoding cachingLengthEncoding(LengthEncodingService lengthEncodingService,
+                                                       ObjectProvider<CoalescingLengthEncoding> coalescing,
+                                                       EncodingProperties properties,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        EncodingProperties.Cache cache = properties.getCache();
+        LengthEncoding delegate = coalescing.getIfAvailable();
+        CachingLengthEncoding cachingLengthEncoding = new CachingLengthEncoding(
+                delegate != null ? delegate : lengthEncodingService,
+                cache.getMaximumWeight(), cache.getMaxEntryLength(), cache.getShards());
+        meterRegistry.ifAvailable(registry -> bindCacheMetrics(cachingLengthEncoding, registry));
+        return cachingLengthEncoding;
+    }
+
+    private static void bindCacheMetrics(CachingLengthEncoding cache, MeterRegistry registry) {
+        FunctionCounter.builder("rle.cache.gets", cache, c -> c.stats().hits()).tag("result", "hit")
+                .description("Cache lookups").register(registry);
+        FunctionCounter.builder("rle.cache.gets", cache, c -> c.stats().misses()).tag("result", "miss")
+                .description("Cache lookups").register(registry);
+        FunctionCounter.builder("rle.cache.evictions", cache, c -> c.stats().evictions())
+                .description("Entries evicted to stay within the maximum weight").register(registry);
+        Gauge.builder("rle.cache.weight", cache, c -> c.stats().weight()).baseUnit("chars")
+                .description("Chars held by the cache").register(registry);
+        Gauge.builder("rle.cache.size", cache, c -> c.stats().entries())
+                .description("Entries held by the cache").register(registry);
+    }
+}
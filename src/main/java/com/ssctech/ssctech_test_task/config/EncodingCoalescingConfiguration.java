@@ -0,0 +1,57 @@
+package com.ssctech.ssctech_test_task.config;
+
+import com.ssctech.ssctech_test_task.services.CoalescingLengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Puts a {@link CoalescingLengthEncoding} in front of {@link LengthEncodingService} when
+ * {@code app.encoding.coalescing.enabled} is set. Without the result cache the decorator is
+ * {@link Primary}; with it, {@link EncodingCacheConfiguration} wraps the decorator instead of the
+ * service, so cache misses are coalesced too. With a {@link MeterRegistry}, the counters are
+ * published as {@code rle.coalescing.*} meters.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.encoding.coalescing", name = "enabled", havingValue = "true")
+public class EncodingCoalescingConfiguration {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.encoding.cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public CoalescingLengthEncoding coalescingLengthEncoding(LengthEncodingService lengthEncodingService,
+                                                             EncodingProperties properties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return create(lengthEncodingService, properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.encoding.cache", name = "enabled", havingValue = "true")
+    public CoalescingLengthEncoding cachedCoalescingLengthEncoding(LengthEncodingService lengthEncodingService,
+                                                                   EncodingProperties properties,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return create(lengthEncodingService, properties, meterRegistry);
+    }
+
+    private static CoalescingLengthEncoding create(LengthEncodingService lengthEncodingService,
+                                                   EncodingProperties properties,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        CoalescingLengthEncoding coalescingLengthEncoding = new CoalescingLengthEncoding(lengthEncodingService,
+                properties.getCoalescing().getMinLength());
+        meterRegistry.ifAvailable(registry -> bindCoalescingMetrics(coalescingLengthEncoding, registry));
+        return coalescingLengthEncoding;
+    }
+
+    private static void bindCoalescingMetrics(CoalescingLengthEncoding coalescing, MeterRegistry registry) {
+        FunctionCounter.builder("rle.coalescing.joined", coalescing, CoalescingLengthEncoding::coalescedCalls)
+                .description("Encodes answered by a concurrent encode of the same input").register(registry);
+        Gauge.builder("rle.coalescing.in.flight", coalescing, CoalescingLengthEncoding::inFlight)
+                .description("Large encodes currently open to coalescing").register(registry);
+    }
+}
@@ -0,0 +1,441 @@
+package com.ssctech.ssctech_test_task.config;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tunables of the encoding service, bound from {@code app.encoding.*} in {@code application.yaml}.
+ * Defaults come from {@link EncodingConfig}, so a service built without Spring behaves the same
+ * as one built from an empty configuration.
+ */
+@ConfigurationProperties(prefix = "app.encoding")
+public class EncodingProperties {
+
+    /**
+     * Whether run ends are searched with the Vector API. Only takes effect when the JVM runs with
+     * {@code --add-modules jdk.incubator.vector}; otherwise the scalar loop is used regardless.
+     */
+    private boolean vectorized = true;
+
+    private final Parallel parallel = new Parallel();
+
+    private final Pool pool = new Pool();
+
+    private final Http http = new Http();
+
+    private final Cache cache = new Cache();
+
+    private final Coalescing coalescing = new Coalescing();
+
+    private final Metrics metrics = new Metrics();
+
+    private final Sampler sampler = new Sampler();
+
+    private final Async async = new Async();
+
+    private final Batch batch = new Batch();
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    public void setVectorized(boolean vectorized) {
+        this.vectorized = vectorized;
+    }
+
+    public Parallel getParallel() {
+        return parallel;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Sampler getSampler() {
+        return sampler;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public static class Parallel {
+
+        /** Whether inputs above {@link #threshold} are split and encoded on the fork-join pool. */
+        private boolean enabled = true;
+
+        /** Input length, in chars, from which encoding runs in parallel. */
+        private int threshold = EncodingConfig.PARALLEL_THRESHOLD.getValue();
+
+        /** Target length, in chars, of the chunks a parallel encode is split into. */
+        private int chunkSize = EncodingConfig.PARALLEL_CHUNK_SIZE.getValue();
+
+        /** Number of strings per slice of a batch encode; larger batches are split across cores. */
+        private int batchSliceSize = EncodingConfig.BATCH_SLICE_SIZE.getValue();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getBatchSliceSize() {
+            return batchSliceSize;
+        }
+
+        public void setBatchSliceSize(int batchSliceSize) {
+            this.batchSliceSize = batchSliceSize;
+        }
+    }
+
+    public static class Pool {
+
+        /** Whether encodes returning a {@code String} write into pooled scratch buffers. */
+        private boolean enabled = true;
+
+        /** Maximum number of idle buffers kept by the pool. */
+        private int maxBuffers = EncodingConfig.POOL_MAX_BUFFERS.getValue();
+
+        /** Length, in chars, of every pooled buffer; larger encodes allocate their own. */
+        private int bufferLength = EncodingConfig.POOL_BUFFER_LENGTH.getValue();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBuffers() {
+            return maxBuffers;
+        }
+
+        public void setMaxBuffers(int maxBuffers) {
+            this.maxBuffers = maxBuffers;
+        }
+
+        public int getBufferLength() {
+            return bufferLength;
+        }
+
+        public void setBufferLength(int bufferLength) {
+            this.bufferLength = bufferLength;
+        }
+    }
+
+    public static class Http {
+
+        /** Largest request body, in bytes, the HTTP endpoints read before answering 413. */
+        private long maxBodySize = EncodingConfig.HTTP_MAX_BODY_SIZE.getValue();
+
+        public long getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(long maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+    }
+
+    public static class Cache {
+
+        /** Whether {@code LengthEncoding} is wrapped in a result cache for repeated inputs. */
+        private boolean enabled = false;
+
+        /** Total chars, inputs plus encoded outputs, the cache may hold. */
+        private long maximumWeight = EncodingConfig.CACHE_MAXIMUM_WEIGHT.getValue();
+
+        /** Longest input, in chars, that is cached; longer inputs bypass the cache. */
+        private int maxEntryLength = EncodingConfig.CACHE_MAX_ENTRY_LENGTH.getValue();
+
+        /** Number of independently locked shards. */
+        private int shards = EncodingConfig.CACHE_SHARDS.getValue();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumWeight() {
+            return maximumWeight;
+        }
+
+        public void setMaximumWeight(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        public int getMaxEntryLength() {
+            return maxEntryLength;
+        }
+
+        public void setMaxEntryLength(int maxEntryLength) {
+            this.maxEntryLength = maxEntryLength;
+        }
+
+        public int getShards() {
+            return shards;
+        }
+
+        public void setShards(int shards) {
+            this.shards = shards;
+        }
+    }
+
+    public static class Coalescing {
+
+        /** Whether concurrent encodes of the same large input share one computation. */
+        private boolean enabled = false;
+
+        /** Shortest input, in chars, whose concurrent encodes are merged; shorter inputs bypass it. */
+        private int minLength = EncodingConfig.COALESCING_MIN_LENGTH.getValue();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinLength() {
+            return minLength;
+        }
+
+        public void setMinLength(int minLength) {
+            this.minLength = minLength;
+        }
+    }
+
+    public static class Metrics {
+
+        /** Whether encodes are recorded in the Micrometer registry, when there is one. */
+        private boolean enabled = true;
+
+        /** One encode in this many, on average, records latency and length distributions. */
+        private int sampleRate = EncodingConfig.METRICS_SAMPLE_RATE.getValue();
+
+        /** Input length, in chars, from which every encode emits a JFR event. */
+        private long largeEncodeThreshold = EncodingConfig.LARGE_ENCODE_THRESHOLD.getValue();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public long getLargeEncodeThreshold() {
+            return largeEncodeThreshold;
+        }
+
+        public void setLargeEncodeThreshold(long largeEncodeThreshold) {
+            this.largeEncodeThreshold = largeEncodeThreshold;
+        }
+    }
+
+    public static class Sampler {
+
+        /** Number of strided windows read to pick a codec for {@code encodeAdaptive}. */
+        private int windows = EncodingConfig.SAMPLER_WINDOWS.getValue();
+
+        /** Chars per sampled window. */
+        private int windowSize = EncodingConfig.SAMPLER_WINDOW_SIZE.getValue();
+
+        public int getWindows() {
+            return windows;
+        }
+
+        public void setWindows(int windows) {
+            this.windows = windows;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+    }
+
+    public static class Async {
+
+        /** Threads of the small lane, which runs inputs shorter than {@code laneThreshold}. */
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        /** Threads of the large lane, which runs longer inputs in time slices. */
+        private int largeThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        /** Input length, in chars, from which requests go to the large lane. */
+        private int laneThreshold = EncodingConfig.ASYNC_LANE_THRESHOLD.getValue();
+
+        /** Chars a large-lane job encodes before yielding its thread to the next job. */
+        private int sliceSize = EncodingConfig.ASYNC_SLICE_SIZE.getValue();
+
+        /**
+         * Bytes that may be encoding at once per lane, counting each request's input (two per char)
+         * and its largest possible output; larger requests are rejected.
+         */
+        private long maxInFlightBytes = EncodingConfig.ASYNC_MAX_IN_FLIGHT_BYTES.getValue();
+
+        /** Bytes, counted the same way, that may wait for admission per lane before further requests are rejected. */
+        private long maxQueuedBytes = EncodingConfig.ASYNC_MAX_QUEUED_BYTES.getValue();
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getLargeThreads() {
+            return largeThreads;
+        }
+
+        public void setLargeThreads(int largeThreads) {
+            this.largeThreads = largeThreads;
+        }
+
+        public int getLaneThreshold() {
+            return laneThreshold;
+        }
+
+        public void setLaneThreshold(int laneThreshold) {
+            this.laneThreshold = laneThreshold;
+        }
+
+        public int getSliceSize() {
+            return sliceSize;
+        }
+
+        public void setSliceSize(int sliceSize) {
+            this.sliceSize = sliceSize;
+        }
+
+        public long getMaxInFlightBytes() {
+            return maxInFlightBytes;
+        }
+
+        public void setMaxInFlightBytes(long maxInFlightBytes) {
+            this.maxInFlightBytes = maxInFlightBytes;
+        }
+
+        public long getMaxQueuedBytes() {
+            return maxQueuedBytes;
+        }
+
+        public void setMaxQueuedBytes(long maxQueuedBytes) {
+            this.maxQueuedBytes = maxQueuedBytes;
+        }
+    }
+
+    public static class Batch {
+
+        /** Threads of the encode stage of a directory batch job. */
+        private int encodeThreads = Runtime.getRuntime().availableProcessors();
+
+        /** Files each queue between two stages holds before the upstream stage blocks. */
+        private int queueCapacity = EncodingConfig.BATCH_QUEUE_CAPACITY.getValue();
+
+        /** Bytes of file contents held between the read and write stages at once. */
+        private int maxBufferedBytes = EncodingConfig.BATCH_MAX_BUFFERED_BYTES.getValue();
+
+        /** File size, in bytes, from which a file is encoded file to file instead of on the heap. */
+        private int streamThreshold = EncodingConfig.BATCH_STREAM_THRESHOLD.getValue();
+
+        /** Minimum time between two progress reports. */
+        private long progressIntervalMillis = EncodingConfig.BATCH_PROGRESS_INTERVAL_MILLIS.getValue();
+
+        public int getEncodeThreads() {
+            return encodeThreads;
+        }
+
+        public void setEncodeThreads(int encodeThreads) {
+            this.encodeThreads = encodeThreads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxBufferedBytes() {
+            return maxBufferedBytes;
+        }
+
+        public void setMaxBufferedBytes(int maxBufferedBytes) {
+            this.maxBufferedBytes = maxBufferedBytes;
+        }
+
+        public int getStreamThreshold() {
+            return streamThreshold;
+        }
+
+        public void setStreamThreshold(int streamThreshold) {
+            this.streamThreshold = streamThreshold;
+        }
+
+        public long getProgressIntervalMillis() {
+            return progressIntervalMillis;
+        }
+
+        public void setProgressIntervalMillis(long progressIntervalMillis) {
+            this.progressIntervalMillis = progressIntervalMillis;
+        }
+    }
+}
@@ -3,7 +3,35 @@ package com.ssctech.ssctech_test_task.constants.config;
 public enum EncodingConfig {
     
     INITIAL_CAPACITY_MULTIPLIER(2),
-    MAX_CHAR_COUNT(Integer.MAX_VALUE);
+    MAX_INITIAL_OUTPUT_CAPACITY(64 * 1024),
+    MAX_CHAR_COUNT(Integer.MAX_VALUE),
+    STREAM_BUFFER_SIZE(8192),
+    MAX_ARRAY_LENGTH(Integer.MAX_VALUE - 8),
+    PARALLEL_THRESHOLD(4 * 1024 * 1024),
+    PARALLEL_CHUNK_SIZE(1024 * 1024),
+    MAPPED_WINDOW_SIZE(64 * 1024 * 1024),
+    FILE_OUTPUT_BUFFER_SIZE(1024 * 1024),
+    POOL_MAX_BUFFERS(32),
+    POOL_BUFFER_LENGTH(64 * 1024),
+    HTTP_MAX_BODY_SIZE(16 * 1024 * 1024),
+    BATCH_SLICE_SIZE(1024),
+    CACHE_MAXIMUM_WEIGHT(4 * 1024 * 1024),
+    CACHE_MAX_ENTRY_LENGTH(1024),
+    CACHE_SHARDS(16),
+    COALESCING_MIN_LENGTH(64 * 1024),
+    METRICS_SAMPLE_RATE(1024),
+    LARGE_ENCODE_THRESHOLD(1024 * 1024),
+    SAMPLER_WINDOWS(8),
+    SAMPLER_WINDOW_SIZE(256),
+    ASYNC_MAX_IN_FLIGHT_BYTES(256 * 1024 * 1024),
+    ASYNC_MAX_QUEUED_BYTES(1024 * 1024 * 1024),
+    ASYNC_LANE_THRESHOLD(64 * 1024),
+    ASYNC_SLICE_SIZE(256 * 1024),
+    BATCH_QUEUE_CAPACITY(64),
+    BATCH_MAX_BUFFERED_BYTES(256 * 1024 * 1024),
+    BATCH_STREAM_THRESHOLD(64 * 1024 * 1024),
+    BATCH_PROGRESS_INTERVAL_MILLIS(5000),
+    CONTAINER_BLOCK_SIZE(1024 * 1024);
     
     private final int value;
     
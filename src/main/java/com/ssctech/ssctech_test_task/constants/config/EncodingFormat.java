@@ -0,0 +1,26 @@
+package com.ssctech.ssctech_test_task.constants.config;
+
+/**
+ * Textual layout of an encoded run: the symbol followed by its decimal count.
+ *
+ * <p>{@link #CLASSIC} is the original {@code char+count} output. It cannot be decoded reliably
+ * once the input contains digits ({@code "111233"} encodes to {@code "132132"}).
+ * {@link #ESCAPED} prefixes digit symbols and the escape character itself with
+ * {@link #ESCAPE}, which makes every encoded value decodable; for input without digits or
+ * backslashes both formats produce identical output.
+ */
+public enum EncodingFormat {
+
+    CLASSIC,
+    ESCAPED;
+
+    public static final char ESCAPE = '\\';
+
+    public boolean requiresEscape(char symbol) {
+        return this == ESCAPED && (isDigit(symbol) || symbol == ESCAPE);
+    }
+
+    public static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
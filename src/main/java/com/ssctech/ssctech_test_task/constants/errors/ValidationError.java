@@ -3,8 +3,29 @@ package com.ssctech.ssctech_test_task.constants.errors;
 public enum ValidationError {
     
     NULL_INPUT("Input must not be null"),
+    NULL_OUTPUT("Output must not be null"),
+    SAME_INPUT_AND_OUTPUT("Input and output must be different files"),
     EMPTY_INPUT("Input must not be empty"),
-    INVALID_FORMAT("Input format is invalid");
+    NULL_FORMAT("Format must not be null"),
+    NULL_CODEC("Codec must not be null"),
+    UNMAPPABLE_CHARACTER("Input contains characters the codec cannot represent"),
+    INVALID_FORMAT("Input format is invalid"),
+    OUTPUT_TOO_SMALL("Output buffer is too small for the encoded value"),
+    ENCODED_LENGTH_OVERFLOW("Encoded output exceeds the maximum array size"),
+    DECODED_LENGTH_OVERFLOW("Decoded output exceeds the maximum array size"),
+    OUTPUT_LENGTH_MISMATCH("Output array length must match the input count"),
+    INVALID_BATCH("Request body must be a JSON array of strings"),
+    BODY_TOO_LARGE("Request body exceeds the maximum allowed size"),
+    ENCODER_FINISHED("Encoder has already been finished"),
+    UNKNOWN_CODEC("No codec is registered under this id"),
+    INVALID_CODEC_ID("Codec id must be between 0 and 255 and not already registered"),
+    ENCODE_REJECTED("Encode rejected: too many input bytes are in flight or queued"),
+    ENCODER_CLOSED("Encode rejected: the encoding service has been shut down"),
+    NOT_A_DIRECTORY("Input must be an existing directory"),
+    INVALID_BLOCK_SIZE("Block size must be positive"),
+    INVALID_CONTAINER("Input is not a valid block container"),
+    CORRUPT_BLOCK("Block contents do not match their checksum"),
+    INVALID_RUNS("Run values and lengths must be parallel arrays of positive lengths");
     
     private final String message;
     
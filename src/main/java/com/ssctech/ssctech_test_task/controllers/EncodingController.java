@@ -0,0 +1,132 @@
+package com.ssctech.ssctech_test_task.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP front end of {@link LengthEncoding}.
+ *
+ * <p>The text endpoints take the text as a plain request body and stream it through the streaming
+ * encoder or decoder straight into the response writer, so neither the request nor the response
+ * is ever held in memory as a whole. Requests are served on virtual threads
+ * ({@code spring.threads.virtual.enabled}); blocking on the socket only parks the virtual thread.
+ * Bodies larger than {@code app.encoding.http.max-body-size} are rejected with 413, up front when
+ * the client sends {@code Content-Length} and as soon as the limit is crossed otherwise. A body
+ * that turns out too large or malformed after part of the response has been sent aborts the
+ * connection.
+ */
+@RestController
+@RequestMapping("/api")
+public class EncodingController {
+
+    private static final String TEXT_PLAIN_UTF8 = MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8";
+
+    private final LengthEncoding lengthEncoding;
+    private final ObjectMapper objectMapper;
+    private final long maxBodySize;
+
+    public EncodingController(LengthEncoding lengthEncoding, ObjectMapper objectMapper, EncodingProperties properties) {
+        this.lengthEncoding = lengthEncoding;
+        this.objectMapper = objectMapper;
+        this.maxBodySize = properties.getHttp().getMaxBodySize();
+    }
+
+    @PostMapping("/encode")
+    public void encode(@RequestParam(defaultValue = "CLASSIC") EncodingFormat format,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        transfer(request, response, (input, output) -> lengthEncoding.encode(input, output, format));
+    }
+
+    @PostMapping("/decode")
+    public void decode(@RequestParam(defaultValue = "CLASSIC") EncodingFormat format,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        transfer(request, response, (input, output) -> lengthEncoding.decode(input, output, format));
+    }
+
+    /**
+     * Encodes a JSON array of strings into a JSON array of their encodings, in the same order.
+     * Unlike the text endpoints the body is parsed whole, so it is meant for many short values.
+     */
+    @PostMapping(value = "/encode/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public String[] encodeBatch(@RequestParam(defaultValue = "CLASSIC") EncodingFormat format,
+                                HttpServletRequest request) throws IOException {
+        String[] values;
+        try (InputStream body = openBodyStream(request)) {
+            values = objectMapper.readValue(body, String[].class);
+        }
+        if (values == null) {
+            throw new IllegalArgumentException(ValidationError.INVALID_BATCH.getMessage());
+        }
+        lengthEncoding.encodeAll(values, values, format);
+        return values;
+    }
+
+    private void transfer(HttpServletRequest request, HttpServletResponse response, Transfer transfer) throws IOException {
+        Reader input = openBody(request);
+        Writer output = openOutput(response);
+        try {
+            transfer.run(input, output);
+            output.flush();
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                // Nothing has been sent yet: drop the text/plain header and the buffered output
+                // so the error is rendered as if the body had never been started.
+                response.reset();
+                throw e;
+            }
+            // Part of the output is already on the wire, so no error status can be sent any more.
+            // Failing with an exception no resolver handles makes the container abort the
+            // connection instead of ending a truncated response as if it were complete.
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private Reader openBody(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8
+                : Charset.forName(request.getCharacterEncoding());
+        return new InputStreamReader(openBodyStream(request), charset);
+    }
+
+    private InputStream openBodyStream(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodySize) {
+            throw LimitedInputStream.bodyTooLarge();
+        }
+        return new LimitedInputStream(request.getInputStream(), maxBodySize);
+    }
+
+    /**
+     * Wraps the response output stream rather than using {@link HttpServletResponse#getWriter()},
+     * so an error raised mid-stream can still be rendered by the exception handlers while the
+     * response is uncommitted.
+     */
+    private static Writer openOutput(HttpServletResponse response) throws IOException {
+        response.setContentType(TEXT_PLAIN_UTF8);
+        return new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Transfer {
+        void run(Reader input, Writer output) throws IOException;
+    }
+}
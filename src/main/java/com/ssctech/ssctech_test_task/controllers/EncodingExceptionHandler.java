@@ -0,0 +1,27 @@
+package com.ssctech.ssctech_test_task.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps the services' {@link IllegalArgumentException}s, whose messages come from
+ * {@code ValidationError}, and unparsable batch bodies to 400 responses. Scoped to
+ * {@link EncodingController} so other controllers keep their own error handling.
+ */
+@RestControllerAdvice(assignableTypes = EncodingController.class)
+public class EncodingExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleInvalidInput(IllegalArgumentException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(JsonProcessingException.class)
+    public ProblemDetail handleMalformedBatch(JsonProcessingException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ValidationError.INVALID_BATCH.getMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssctech.ssctech_test_task.controllers;
+
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that fails with 413 once more than {@code limit} bytes have been read, for
+ * request bodies sent without {@code Content-Length} or with a false one.
+ */
+final class LimitedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private long read;
+
+    LimitedInputStream(InputStream in, long limit) {
+        super(in);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            count(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        if (count > 0) {
+            count(count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    static ResponseStatusException bodyTooLarge() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, ValidationError.BODY_TOO_LARGE.getMessage());
+    }
+
+    private void count(long bytes) {
+        read += bytes;
+        if (read > limit) {
+            throw bodyTooLarge();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Runs encodes on a dedicated, bounded pool of platform threads, admitting them by input bytes
+ * rather than by count.
+ *
+ * <p>A task starts right away while the bytes of all running tasks stay within
+ * {@code maxInFlightBytes}. Otherwise it waits in a FIFO queue that holds at most
+ * {@code maxQueuedBytes}, and is rejected with a {@link RejectedExecutionException} once that
+ * is full too. A task larger than {@code maxInFlightBytes} is rejected immediately, because it
+ * could never start. Waiting tasks hold no thread; they are started by whichever task
+ * finishes and frees enough bytes.
+ *
+ * <p>Work receives a {@link BooleanSupplier} that turns true once the future is done, whether
+ * cancelled, timed out through {@link CompletableFuture#orTimeout} or completed by anyone else.
+ * Long encodes poll it and stop early. Queued tasks whose future completes are dropped from
+ * the queue.
+ *
+ * <p>A {@link Job} submitted through {@link #submitSliced(long, Job)} runs one slice at a time
+ * and goes back to the end of the executor queue between slices, so jobs sharing the pool take
+ * turns instead of running to completion one after another. Completion is checked before every
+ * slice.
+ *
+ * <p>{@link #close()} rejects new tasks, fails the queued ones with a
+ * {@link RejectedExecutionException} and shuts the pool down. Tasks already running are finished,
+ * sliced ones on the thread they hold, since they can no longer take turns.
+ */
+final class AsyncEncoder implements AutoCloseable {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxInFlightBytes;
+    private final long maxQueuedBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Task<?>> queue = new ArrayDeque<>();
+    private long inFlightBytes;
+    private long queuedBytes;
+    private boolean closed;
+
+    AsyncEncoder(String name, int threads, long maxInFlightBytes, long maxQueuedBytes) {
+        int size = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(size, size, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name(name + "-", 0).daemon().factory());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    /**
+     * Work that is done in slices, each short enough to let other jobs run in between.
+     */
+    interface Job<T> {
+
+        /**
+         * Does the next slice of work.
+         *
+         * @param cancelled turns true once the job's future is done
+         * @return whether the work is complete and {@link #result()} can be read
+         */
+        boolean runSlice(BooleanSupplier cancelled);
+
+        T result();
+    }
+
+    <T> CompletableFuture<T> submit(long bytes, Function<BooleanSupplier, T> work) {
+        return admit(new Task<>(bytes, new Job<>() {
+
+            private T result;
+
+            @Override
+            public boolean runSlice(BooleanSupplier cancelled) {
+                result = work.apply(cancelled);
+                return true;
+            }
+
+            @Override
+            public T result() {
+                return result;
+            }
+        }));
+    }
+
+    <T> CompletableFuture<T> submitSliced(long bytes, Job<T> job) {
+        return admit(new Task<>(bytes, job));
+    }
+
+    private <T> CompletableFuture<T> admit(Task<T> task) {
+        long bytes = task.bytes;
+        boolean start = false;
+
+        lock.lock();
+        try {
+            if (closed) {
+                return rejected(ValidationError.ENCODER_CLOSED);
+            }
+            if (bytes > maxInFlightBytes) {
+                return rejected(ValidationError.ENCODE_REJECTED);
+            }
+            if (queue.isEmpty() && inFlightBytes + bytes <= maxInFlightBytes) {
+                inFlightBytes += bytes;
+                start = true;
+            } else if (queuedBytes + bytes <= maxQueuedBytes) {
+                queuedBytes += bytes;
+                queue.add(task);
+            } else {
+                return rejected(ValidationError.ENCODE_REJECTED);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (start) {
+            start(task);
+        } else {
+            task.future.whenComplete((result, failure) -> dequeue(task));
+        }
+        return task.future;
+    }
+
+    long inFlightBytes() {
+        lock.lock();
+        try {
+            return inFlightBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long queuedBytes() {
+        lock.lock();
+        try {
+            return queuedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        List<Task<?>> abandoned;
+
+        lock.lock();
+        try {
+            closed = true;
+            abandoned = new ArrayList<>(queue);
+            queue.clear();
+            queuedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+
+        for (Task<?> task : abandoned) {
+            task.future.completeExceptionally(new RejectedExecutionException(ValidationError.ENCODER_CLOSED.getMessage()));
+        }
+        executor.shutdown();
+    }
+
+    private void dequeue(Task<?> task) {
+        lock.lock();
+        try {
+            if (queue.remove(task)) {
+                queuedBytes -= task.bytes;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long bytes) {
+        List<Task<?>> ready = new ArrayList<>();
+
+        lock.lock();
+        try {
+            inFlightBytes -= bytes;
+            while (!queue.isEmpty() && inFlightBytes + queue.peek().bytes <= maxInFlightBytes) {
+                Task<?> next = queue.poll();
+                queuedBytes -= next.bytes;
+                inFlightBytes += next.bytes;
+                ready.add(next);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Task<?> task : ready) {
+            start(task);
+        }
+    }
+
+    private void start(Task<?> task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Admitted just before close() shut the pool down.
+            task.future.completeExceptionally(new RejectedExecutionException(ValidationError.ENCODER_CLOSED.getMessage()));
+            release(task.bytes);
+        }
+    }
+
+    private static <T> CompletableFuture<T> rejected(ValidationError reason) {
+        return CompletableFuture.failedFuture(new RejectedExecutionException(reason.getMessage()));
+    }
+
+    private final class Task<T> implements Runnable {
+
+        private final long bytes;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final Job<T> job;
+
+        Task(long bytes, Job<T> job) {
+            this.bytes = bytes;
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            boolean requeue = false;
+            try {
+                if (!future.isDone()) {
+                    boolean done = job.runSlice(future::isDone);
+                    // Once the pool is shut down there are no turns left to take, so finish here.
+                    while (!done && executor.isShutdown()) {
+                        done = job.runSlice(future::isDone);
+                    }
+                    if (done) {
+                        future.complete(job.result());
+                    } else {
+                        requeue = true;
+                    }
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+
+            if (requeue) {
+                try {
+                    executor.execute(this);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // Shut down since the check above; this run finishes the job.
+                    run();
+                    return;
+                }
+            }
+            release(bytes);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Encodes many short strings per call.
+ *
+ * <p>For keys of a few dozen chars the per-call work of {@link LengthEncodingService#encode(String)}
+ * (validation, copying the input, sizing a fresh output) costs more than the encoding itself.
+ * A batch is instead cut into contiguous slices of {@code sliceSize} strings; each slice copies
+ * its strings into one scratch input array and encodes them into one scratch output array, so
+ * the only allocation per string is the resulting {@code String}. With a pool, slices run on
+ * the {@link ForkJoinPool} and each one writes only its own range of the output array, which
+ * keeps results in input order without any merging.
+ */
+final class BatchEncoder {
+
+    private static final int INITIAL_SCRATCH_LENGTH = 256;
+
+    private final ForkJoinPool pool;
+    private final int sliceSize;
+    private final RunScanner runScanner;
+    private final EncodingBufferPool bufferPool;
+
+    /**
+     * @param pool       pool the slices run on, or {@code null} to encode on the calling thread
+     * @param bufferPool pool the output scratch buffers come from, or {@code null} to allocate them
+     */
+    BatchEncoder(ForkJoinPool pool, int sliceSize, RunScanner runScanner, EncodingBufferPool bufferPool) {
+        this.pool = pool;
+        this.sliceSize = Math.max(1, sliceSize);
+        this.runScanner = runScanner;
+        this.bufferPool = bufferPool;
+    }
+
+    void encode(String[] inputs, String[] outputs, EncodingFormat format) {
+        if (pool == null || inputs.length <= sliceSize) {
+            encodeSlice(inputs, outputs, 0, inputs.length, format);
+        } else {
+            pool.invoke(new SliceTask(inputs, outputs, 0, inputs.length, format));
+        }
+    }
+
+    private void encodeSlice(String[] inputs, String[] outputs, int from, int to, EncodingFormat format) {
+        int charsPerInputChar = LengthEncodingService.maxCharsPerInputChar(format);
+        char[] chars = new char[INITIAL_SCRATCH_LENGTH];
+        char[] pooled = bufferPool != null
+                ? bufferPool.acquire(INITIAL_SCRATCH_LENGTH * charsPerInputChar)
+                : new char[INITIAL_SCRATCH_LENGTH * charsPerInputChar];
+        // Grown copies replace this reference only; the acquired array is the one handed back.
+        char[] encoded = pooled;
+
+        try {
+            for (int i = from; i < to; i++) {
+                String input = inputs[i];
+                if (input == null) {
+                    throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+                }
+
+                int length = input.length();
+                if (length > chars.length) {
+                    chars = new char[Math.max(length, chars.length * 2)];
+                }
+                long maxEncodedLength = (long) length * charsPerInputChar;
+                if (maxEncodedLength > encoded.length) {
+                    encoded = new char[Math.toIntExact(Math.max(maxEncodedLength, (long) encoded.length * 2))];
+                }
+
+                input.getChars(0, length, chars, 0);
+                int encodedLength = LengthEncodingService.writeRuns(runScanner, chars, 0, length, encoded, 0, format);
+                outputs[i] = new String(encoded, 0, encodedLength);
+            }
+        } finally {
+            if (bufferPool != null) {
+                bufferPool.release(pooled);
+            }
+        }
+    }
+
+    private final class SliceTask extends RecursiveAction {
+
+        private final String[] inputs;
+        private final String[] outputs;
+        private final int from;
+        private final int to;
+        private final EncodingFormat format;
+
+        SliceTask(String[] inputs, String[] outputs, int from, int to, EncodingFormat format) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.from = from;
+            this.to = to;
+            this.format = format;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sliceSize) {
+                encodeSlice(inputs, outputs, from, to, format);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SliceTask(inputs, outputs, from, middle, format),
+                    new SliceTask(inputs, outputs, middle, to, format));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ssctech.ssctech_test_task.services;
+
+/**
+ * Snapshot of the counters of {@link CachingLengthEncoding}. Weights are measured in chars
+ * (input plus encoded output). Inputs that bypass the cache are not counted as misses.
+ */
+public record CacheStats(long hits, long misses, long evictions, long entries, long weight, long maximumWeight) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
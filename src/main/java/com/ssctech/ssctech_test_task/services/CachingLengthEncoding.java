@@ -0,0 +1,115 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decorator of {@link LengthEncoding} that caches the encodings of {@code String} inputs.
+ *
+ * <p>Entries are keyed on the input content and format and kept in a {@link SegmentedLruCache}
+ * bounded by total weight (input plus output chars). That suits traffic where a small set of
+ * template strings makes up most calls: once seen twice, a template stays cached even when long
+ * streams of one-off inputs pass through. Inputs longer than {@code maxEntryLength} bypass the
+ * cache, and so do all non-{@code String} inputs, whose content may change after the call.
+ * Batches look every element up and send only the misses to the delegate, as one batch.
+ */
+public class CachingLengthEncoding extends ForwardingLengthEncoding {
+
+    private final SegmentedLruCache<CacheKey, String> cache;
+    private final int maxEntryLength;
+
+    /**
+     * @param maximumWeight  total chars (inputs plus outputs) the cache may hold
+     * @param maxEntryLength longest input, in chars, that is cached
+     * @param shards         number of independently locked shards
+     */
+    public CachingLengthEncoding(LengthEncoding delegate, long maximumWeight, int maxEntryLength, int shards) {
+        super(delegate);
+        this.cache = new SegmentedLruCache<>(shards, maximumWeight,
+                (key, value) -> key.input().length() + value.length());
+        this.maxEntryLength = maxEntryLength;
+    }
+
+    @Override
+    public String encode(String input, EncodingFormat format) {
+        if (!isCacheable(input, format)) {
+            return delegate().encode(input, format);
+        }
+
+        CacheKey key = new CacheKey(format, input);
+        String encoded = cache.get(key);
+        if (encoded == null) {
+            encoded = delegate().encode(input, format);
+            cache.put(key, encoded);
+        }
+        return encoded;
+    }
+
+    @Override
+    public String encode(CharSequence input, EncodingFormat format) {
+        return input instanceof String string ? encode(string, format) : delegate().encode(input, format);
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> inputs, EncodingFormat format) {
+        if (inputs == null) {
+            return delegate().encodeAll(inputs, format);
+        }
+
+        String[] output = inputs.toArray(new String[0]);
+        encodeAll(output, output, format);
+        return Collections.unmodifiableList(Arrays.asList(output));
+    }
+
+    @Override
+    public void encodeAll(String[] inputs, String[] output, EncodingFormat format) {
+        if (inputs == null || output == null || format == null || output.length != inputs.length) {
+            delegate().encodeAll(inputs, output, format);
+            return;
+        }
+
+        int[] missIndexes = new int[inputs.length];
+        String[] misses = new String[inputs.length];
+        int missCount = 0;
+
+        for (int i = 0; i < inputs.length; i++) {
+            String input = inputs[i];
+            String encoded = isCacheable(input, format) ? cache.get(new CacheKey(format, input)) : null;
+            if (encoded == null) {
+                missIndexes[missCount] = i;
+                misses[missCount++] = input;
+            } else {
+                output[i] = encoded;
+            }
+        }
+
+        if (missCount == 0) {
+            return;
+        }
+
+        String[] missInputs = Arrays.copyOf(misses, missCount);
+        String[] missOutputs = new String[missCount];
+        delegate().encodeAll(missInputs, missOutputs, format);
+
+        for (int i = 0; i < missCount; i++) {
+            output[missIndexes[i]] = missOutputs[i];
+            if (isCacheable(missInputs[i], format)) {
+                cache.put(new CacheKey(format, missInputs[i]), missOutputs[i]);
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private boolean isCacheable(String input, EncodingFormat format) {
+        return input != null && format != null && input.length() <= maxEntryLength;
+    }
+
+    private record CacheKey(EncodingFormat format, String input) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of {@link LengthEncoding} that lets concurrent encodes of the same large
+ * {@code String} share one computation.
+ *
+ * <p>The first caller for an input registers a flight keyed on the format, the input length and
+ * {@link String#hashCode()} (computed once per string and vectorized), encodes, and completes
+ * the flight's future. Callers arriving meanwhile with an equal input wait for that future
+ * instead of encoding again, and receive the same result or exception. A caller whose key
+ * matches a flight for a different input, a hash collision, encodes on its own. The flight is
+ * removed before it completes, so nothing is retained afterwards; unlike
+ * {@link CachingLengthEncoding}, only calls that overlap in time are merged. Inputs shorter than
+ * {@code minLength} and non-{@code String} inputs, whose content may change during the call, go
+ * straight to the delegate.
+ */
+public class CoalescingLengthEncoding extends ForwardingLengthEncoding {
+
+    private final ConcurrentHashMap<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final int minLength;
+
+    /**
+     * @param minLength shortest input, in chars, whose concurrent encodes are merged
+     */
+    public CoalescingLengthEncoding(LengthEncoding delegate, int minLength) {
+        super(delegate);
+        this.minLength = minLength;
+    }
+
+    @Override
+    public String encode(String input, EncodingFormat format) {
+        if (input == null || format == null || input.length() < minLength) {
+            return delegate().encode(input, format);
+        }
+
+        FlightKey key = new FlightKey(format, input.length(), input.hashCode());
+        Flight flight = new Flight(input);
+        Flight existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (!existing.input.equals(input)) {
+                return delegate().encode(input, format);
+            }
+            coalesced.increment();
+            return await(existing.result);
+        }
+
+        try {
+            String encoded = delegate().encode(input, format);
+            flights.remove(key, flight);
+            flight.result.complete(encoded);
+            return encoded;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String encode(CharSequence input, EncodingFormat format) {
+        return input instanceof String string ? encode(string, format) : delegate().encode(input, format);
+    }
+
+    /**
+     * Returns the number of calls that were answered by another caller's encode.
+     */
+    public long coalescedCalls() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of encodes currently shared by other callers or open to be shared.
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private static String await(CompletableFuture<String> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record FlightKey(EncodingFormat format, int length, int hash) {
+    }
+
+    private static final class Flight {
+
+        private final String input;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        Flight(String input) {
+            this.input = input;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.codec.HuffmanRunLengthCodec;
+import com.ssctech.ssctech_test_task.services.codec.PackBitsRunLengthCodec;
+import com.ssctech.ssctech_test_task.services.codec.PassthroughCodec;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+import com.ssctech.ssctech_test_task.services.codec.VarintRunLengthCodec;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Maps the one-byte codec ids written in front of {@link LengthEncoding#encodeAdaptive(CharSequence)}
+ * output to {@link RunLengthCodec}s.
+ *
+ * <p>{@link #withDefaults()} registers the built-in codecs under the public id constants, which
+ * are part of the stored format and never change. Further codecs can be registered under any
+ * free id; declaring a {@code CodecRegistry} bean replaces the one the service creates.
+ * Registration is thread-safe.
+ */
+public final class CodecRegistry {
+
+    public static final int PASSTHROUGH = 0;
+    public static final int TEXT = 1;
+    public static final int VARINT = 2;
+    public static final int PACKBITS = 3;
+    public static final int HUFFMAN = 4;
+
+    private static final int MAX_ID = 0xFF;
+
+    private final AtomicReferenceArray<RunLengthCodec> codecs = new AtomicReferenceArray<>(MAX_ID + 1);
+
+    public static CodecRegistry withDefaults() {
+        return new CodecRegistry()
+                .register(PASSTHROUGH, PassthroughCodec.UTF8)
+                .register(TEXT, TextRunLengthCodec.ESCAPED)
+                .register(VARINT, VarintRunLengthCodec.UTF8)
+                .register(PACKBITS, PackBitsRunLengthCodec.UTF8)
+                .register(HUFFMAN, HuffmanRunLengthCodec.UTF8);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code id} is outside {@code [0, 255]} or taken
+     */
+    public CodecRegistry register(int id, RunLengthCodec codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_CODEC.getMessage());
+        }
+        if (id < 0 || id > MAX_ID || !codecs.compareAndSet(id, null, codec)) {
+            throw new IllegalArgumentException(ValidationError.INVALID_CODEC_ID.getMessage());
+        }
+        return this;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no codec is registered under {@code id}
+     */
+    public RunLengthCodec codec(int id) {
+        RunLengthCodec codec = id < 0 || id > MAX_ID ? null : codecs.get(id);
+        if (codec == null) {
+            throw new IllegalArgumentException(ValidationError.UNKNOWN_CODEC.getMessage());
+        }
+        return codec;
+    }
+}
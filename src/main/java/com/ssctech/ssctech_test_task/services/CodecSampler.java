@@ -0,0 +1,102 @@
+package com.ssctech.ssctech_test_task.services;
+
+/**
+ * Picks a built-in codec for {@link LengthEncoding#encodeAdaptive(CharSequence)} from a few
+ * strided windows of the input instead of the whole of it.
+ *
+ * <p>Each window contributes its run count and a histogram of the low byte of every char, giving
+ * the average run length and the Shannon entropy in bits per char. Long runs favour
+ * {@link CodecRegistry#VARINT}, which pays about two bytes per run. Some runs among
+ * mostly distinct chars favour {@link CodecRegistry#PACKBITS}, whose literal blocks cost
+ * almost nothing. Input with hardly any repeats, or repeats in otherwise near-random data, goes
+ * through {@link CodecRegistry#PASSTHROUGH}: there RLE is a net loss and copying is fastest.
+ */
+public final class CodecSampler {
+
+    /** Runs averaging at least this many chars make every run token pay off. */
+    static final double VARINT_MIN_RUN_LENGTH = 3.0;
+
+    /** Below this average, runs are too rare to be worth scanning for. */
+    static final double PACKBITS_MIN_RUN_LENGTH = 1.5;
+
+    /** Above this many bits per char, a mixed input is treated as incompressible. */
+    static final double PASSTHROUGH_MIN_ENTROPY = 7.0;
+
+    private final int windows;
+    private final int windowSize;
+
+    public CodecSampler(int windows, int windowSize) {
+        this.windows = Math.max(1, windows);
+        this.windowSize = Math.max(2, windowSize);
+    }
+
+    /**
+     * Average run length and low-byte entropy of the sampled windows.
+     */
+    public record Estimate(double averageRunLength, double entropy) {
+    }
+
+    public Estimate sample(CharSequence input) {
+        int length = input.length();
+        if (length == 0) {
+            return new Estimate(0, 0);
+        }
+
+        int[] histogram = new int[256];
+        long sampled = 0;
+        long runs = 0;
+        if ((long) windows * windowSize >= length) {
+            runs = sampleWindow(input, 0, length, histogram);
+            sampled = length;
+        } else {
+            long stride = (length - windowSize) / Math.max(1, windows - 1);
+            for (int window = 0; window < windows; window++) {
+                int from = (int) (window * stride);
+                runs += sampleWindow(input, from, from + windowSize, histogram);
+                sampled += windowSize;
+            }
+        }
+
+        double entropy = 0;
+        for (int count : histogram) {
+            if (count > 0) {
+                double p = (double) count / sampled;
+                entropy -= p * Math.log(p) / Math.log(2);
+            }
+        }
+        return new Estimate((double) sampled / runs, entropy);
+    }
+
+    /**
+     * Returns the id in {@link CodecRegistry} of the codec likely to be smallest and fastest.
+     */
+    public int choose(Estimate estimate) {
+        double runLength = estimate.averageRunLength();
+        if (runLength >= VARINT_MIN_RUN_LENGTH) {
+            return CodecRegistry.VARINT;
+        }
+        if (runLength >= PACKBITS_MIN_RUN_LENGTH && estimate.entropy() < PASSTHROUGH_MIN_ENTROPY) {
+            return CodecRegistry.PACKBITS;
+        }
+        return CodecRegistry.PASSTHROUGH;
+    }
+
+    public int choose(CharSequence input) {
+        return choose(sample(input));
+    }
+
+    private static long sampleWindow(CharSequence input, int from, int to, int[] histogram) {
+        long runs = 1;
+        char previous = input.charAt(from);
+        histogram[previous & 0xFF]++;
+        for (int i = from + 1; i < to; i++) {
+            char current = input.charAt(i);
+            histogram[current & 0xFF]++;
+            if (current != previous) {
+                runs++;
+                previous = current;
+            }
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,437 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Encodes every regular file of a directory tree into a mirrored tree of {@code .rle} files, in
+ * one JVM and as a three-stage pipeline:
+ *
+ * <ol>
+ *     <li>one reader thread loads files onto the heap,</li>
+ *     <li>{@code encode-threads} threads encode them,</li>
+ *     <li>one writer thread writes the results and records them in the checkpoint manifest.</li>
+ * </ol>
+ *
+ * <p>The stages are connected by queues of {@code queue-capacity} files, so reading the next
+ * files overlaps encoding and writing the previous ones, and a slow stage blocks the one before
+ * it. On top of that, the contents of files between reading and writing never exceed
+ * {@code max-buffered-bytes}. Files of at least {@code stream-threshold} bytes skip the heap:
+ * an encode thread runs them file to file through {@link FileEncodingService}. Either way the
+ * output is what {@link FileEncodingService} writes, each byte being one Latin-1 char.
+ *
+ * <p>Every output is written to a {@code .part} sibling and renamed once complete, then
+ * appended to {@value #MANIFEST_NAME} in the output directory with the format, size and
+ * modification time of its source. A restarted job skips files whose manifest entry still
+ * matches, so it resumes where the previous run stopped. A file that cannot be read, encoded or
+ * written is reported to the {@link Listener} and left out of the manifest; the other files
+ * carry on.
+ */
+public final class DirectoryEncodingPipeline {
+
+    public static final String MANIFEST_NAME = ".rle-manifest";
+
+    public static final String OUTPUT_SUFFIX = ".rle";
+
+    private static final String PART_SUFFIX = ".part";
+
+    private static final Item END = new Item(null, null);
+
+    private final LengthEncoding encoding;
+    private final FileEncodingService fileEncoding;
+    private final int encodeThreads;
+    private final int queueCapacity;
+    private final int maxBufferedBytes;
+    private final long streamThreshold;
+    private final long progressIntervalNanos;
+
+    public DirectoryEncodingPipeline(LengthEncoding encoding, FileEncodingService fileEncoding,
+                                     EncodingProperties.Batch properties) {
+        this.encoding = encoding;
+        this.fileEncoding = fileEncoding;
+        this.encodeThreads = Math.max(1, properties.getEncodeThreads());
+        this.queueCapacity = Math.max(1, properties.getQueueCapacity());
+        this.maxBufferedBytes = Math.max(1, properties.getMaxBufferedBytes());
+        this.streamThreshold = Math.min(properties.getStreamThreshold(), this.maxBufferedBytes);
+        this.progressIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getProgressIntervalMillis());
+    }
+
+    /**
+     * Counts of one job. {@code skippedFiles} were already encoded by an earlier run, according
+     * to the manifest; byte counts cover the files encoded by this run.
+     */
+    public record Progress(int totalFiles, int encodedFiles, int skippedFiles, int failedFiles,
+                           long bytesRead, long bytesWritten) {
+
+        public int remainingFiles() {
+            return totalFiles - encodedFiles - skippedFiles - failedFiles;
+        }
+    }
+
+    /**
+     * Receives reports from the writer thread.
+     */
+    public interface Listener {
+
+        /**
+         * Called at most once per {@code progress-interval-millis} while the job runs, and once
+         * at the end.
+         */
+        void progress(Progress progress);
+
+        /**
+         * Called for every file that could not be encoded; {@code file} is relative to the
+         * input directory.
+         */
+        default void failed(String file, Exception cause) {
+        }
+    }
+
+    /**
+     * Encodes the tree under {@code input} into {@code output}, which is created if needed and
+     * may lie inside {@code input}, and blocks until every file has been handled.
+     *
+     * @return the final counts
+     * @throws IOException if the tree cannot be listed or the manifest cannot be read or written
+     */
+    public Progress encode(Path input, Path output, EncodingFormat format, Listener listener)
+            throws IOException, InterruptedException {
+        if (input == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        if (output == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_OUTPUT.getMessage());
+        }
+        if (format == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_FORMAT.getMessage());
+        }
+        if (!Files.isDirectory(input)) {
+            throw new IllegalArgumentException(ValidationError.NOT_A_DIRECTORY.getMessage());
+        }
+        Path source = input.toRealPath();
+        Path target = Files.createDirectories(output).toRealPath();
+        if (source.equals(target)) {
+            throw new IllegalArgumentException(ValidationError.SAME_INPUT_AND_OUTPUT.getMessage());
+        }
+
+        try (Manifest manifest = Manifest.open(target.resolve(MANIFEST_NAME))) {
+            return new Job(source, target, format, listener, manifest).run();
+        }
+    }
+
+    private record SourceFile(Path path, String name, long size, long modified) {
+    }
+
+    /**
+     * A file on its way through the pipeline. Each stage sets its fields before handing the item
+     * to the next stage's queue, which publishes them safely.
+     */
+    private static final class Item {
+
+        private final SourceFile file;
+        private final Path target;
+        private boolean streamed;
+        private int permits;
+        private byte[] content;
+        private byte[] encoded;
+        private Exception failure;
+
+        Item(SourceFile file, Path target) {
+            this.file = file;
+            this.target = target;
+        }
+    }
+
+    private final class Job {
+
+        private final Path source;
+        private final Path target;
+        private final EncodingFormat format;
+        private final Listener listener;
+        private final Manifest manifest;
+
+        private final BlockingQueue<Item> readQueue = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<Item> writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Semaphore buffered = new Semaphore(maxBufferedBytes);
+        private final List<SourceFile> pending = new ArrayList<>();
+
+        // Updated by the writer thread only, read by the caller once all stages have finished.
+        private int totalFiles;
+        private int encodedFiles;
+        private int skippedFiles;
+        private int failedFiles;
+        private long bytesRead;
+        private long bytesWritten;
+        private long lastReport;
+
+        Job(Path source, Path target, EncodingFormat format, Listener listener, Manifest manifest) {
+            this.source = source;
+            this.target = target;
+            this.format = format;
+            this.listener = listener;
+            this.manifest = manifest;
+        }
+
+        Progress run() throws IOException, InterruptedException {
+            scan();
+            lastReport = System.nanoTime();
+            listener.progress(progress());
+
+            ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofPlatform().name("rle-batch-", 0).daemon().factory());
+            try {
+                CompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+                stages.submit(this::read);
+                for (int i = 0; i < encodeThreads; i++) {
+                    stages.submit(this::encode);
+                }
+                stages.submit(this::write);
+
+                for (int i = 0; i < encodeThreads + 2; i++) {
+                    try {
+                        stages.take().get();
+                    } catch (ExecutionException e) {
+                        throw rethrow(e.getCause());
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Progress progress = progress();
+            listener.progress(progress);
+            return progress;
+        }
+
+        private void scan() throws IOException {
+            try (Stream<Path> paths = Files.walk(source)) {
+                List<Path> files = paths.filter(path -> !path.startsWith(target))
+                        .filter(Files::isRegularFile)
+                        .sorted()
+                        .toList();
+                for (Path path : files) {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    String name = source.relativize(path).toString().replace(File.separatorChar, '/');
+                    SourceFile file = new SourceFile(path, name, attributes.size(),
+                            attributes.lastModifiedTime().toMillis());
+                    totalFiles++;
+                    if (manifest.contains(format, file) && Files.exists(outputOf(file))) {
+                        skippedFiles++;
+                    } else {
+                        pending.add(file);
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Void read() throws InterruptedException {
+            for (SourceFile file : pending) {
+                Item item = new Item(file, outputOf(file));
+                if (file.size() >= streamThreshold) {
+                    item.streamed = true;
+                } else {
+                    item.permits = (int) file.size();
+                    buffered.acquire(item.permits);
+                    try {
+                        item.content = Files.readAllBytes(file.path());
+                    } catch (IOException | RuntimeException e) {
+                        item.failure = e;
+                    }
+                }
+                readQueue.put(item);
+            }
+            for (int i = 0; i < encodeThreads; i++) {
+                readQueue.put(END);
+            }
+            return null;
+        }
+
+        private Void encode() throws InterruptedException {
+            for (Item item = readQueue.take(); item != END; item = readQueue.take()) {
+                if (item.failure == null) {
+                    try {
+                        if (item.streamed) {
+                            Files.createDirectories(item.target.getParent());
+                            fileEncoding.encode(item.file.path(), partOf(item.target), format);
+                        } else {
+                            item.encoded = encoding.encode(item.content, format).getBytes(StandardCharsets.ISO_8859_1);
+                            item.content = null;
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        item.failure = e;
+                    }
+                }
+                writeQueue.put(item);
+            }
+            writeQueue.put(END);
+            return null;
+        }
+
+        private Void write() throws IOException, InterruptedException {
+            int running = encodeThreads;
+            while (running > 0) {
+                Item item = writeQueue.take();
+                if (item == END) {
+                    running--;
+                    continue;
+                }
+
+                Path part = partOf(item.target);
+                try {
+                    if (item.failure == null) {
+                        try {
+                            if (!item.streamed) {
+                                Files.createDirectories(item.target.getParent());
+                                Files.write(part, item.encoded);
+                            }
+                            Files.move(part, item.target, StandardCopyOption.ATOMIC_MOVE);
+                        } catch (IOException | RuntimeException e) {
+                            item.failure = e;
+                        }
+                    }
+                } finally {
+                    buffered.release(item.permits);
+                }
+
+                if (item.failure == null) {
+                    manifest.record(format, item.file);
+                    encodedFiles++;
+                    bytesRead += item.file.size();
+                    bytesWritten += item.streamed ? Files.size(item.target) : item.encoded.length;
+                } else {
+                    deleteQuietly(part);
+                    failedFiles++;
+                    listener.failed(item.file.name(), item.failure);
+                }
+                item.encoded = null;
+
+                long now = System.nanoTime();
+                if (now - lastReport >= progressIntervalNanos) {
+                    lastReport = now;
+                    listener.progress(progress());
+                }
+            }
+            return null;
+        }
+
+        private Progress progress() {
+            return new Progress(totalFiles, encodedFiles, skippedFiles, failedFiles, bytesRead, bytesWritten);
+        }
+
+        private Path outputOf(SourceFile file) {
+            return target.resolve(file.name() + OUTPUT_SUFFIX);
+        }
+    }
+
+    private static Path partOf(Path output) {
+        return output.resolveSibling(output.getFileName() + PART_SUFFIX);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // A stale part file is overwritten by the next run.
+        }
+    }
+
+    private static IOException rethrow(Throwable cause) {
+        if (cause instanceof IOException e) {
+            return e;
+        }
+        if (cause instanceof RuntimeException e) {
+            throw e;
+        }
+        if (cause instanceof Error e) {
+            throw e;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * Append-only checkpoint: one {@code format size modified name} line, tab separated, per
+     * encoded file. A torn last line, left by a crash mid-append, is ignored.
+     */
+    private static final class Manifest implements AutoCloseable {
+
+        private final Map<String, String> entries;
+        private final BufferedWriter writer;
+
+        private Manifest(Map<String, String> entries, BufferedWriter writer) {
+            this.entries = entries;
+            this.writer = writer;
+        }
+
+        static Manifest open(Path path) throws IOException {
+            Map<String, String> entries = new HashMap<>();
+            boolean torn = false;
+            if (Files.exists(path)) {
+                String content = Files.readString(path, StandardCharsets.UTF_8);
+                torn = !content.isEmpty() && !content.endsWith("\n");
+                String[] lines = content.split("\n");
+                // A torn line can still split into four fields, with a truncated name.
+                int complete = torn ? lines.length - 1 : lines.length;
+                for (int i = 0; i < complete; i++) {
+                    String[] fields = lines[i].split("\t", 4);
+                    if (fields.length == 4) {
+                        entries.put(fields[3], fields[0] + '\t' + fields[1] + '\t' + fields[2]);
+                    }
+                }
+            }
+
+            BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (torn) {
+                writer.write('\n');
+                writer.flush();
+            }
+            return new Manifest(entries, writer);
+        }
+
+        boolean contains(EncodingFormat format, SourceFile file) {
+            return key(format, file).equals(entries.get(file.name()));
+        }
+
+        void record(EncodingFormat format, SourceFile file) throws IOException {
+            writer.write(key(format, file) + '\t' + file.name() + '\n');
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static String key(EncodingFormat format, SourceFile file) {
+            return format.name() + '\t' + file.size() + '\t' + file.modified();
+        }
+    }
+}
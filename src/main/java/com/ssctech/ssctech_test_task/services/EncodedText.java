@@ -0,0 +1,364 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable run-length encoded text that can be read without decoding it whole.
+ *
+ * <p>The text is held as a run table: the symbol of every run and the prefix sum of the run
+ * lengths, i.e. the exclusive end offset of each run in the decoded text. {@link #charAt(long)}
+ * binary-searches that table, and {@link #substring(long, long)} fills only the runs it
+ * overlaps, so both cost {@code O(log runs)} plus the length of the result. Adjacent runs of
+ * the same symbol are always merged, and runs are not limited to
+ * {@link EncodingConfig#MAX_CHAR_COUNT}: that limit only applies to the textual forms produced
+ * by {@link #encode(EncodingFormat)}.
+ *
+ * <p>Instances come from {@link LengthEncoding#encodeText(CharSequence)} or from
+ * {@link #parse(CharSequence, EncodingFormat)} for values that are already encoded.
+ *
+ * <p>{@link #concat(EncodedText)}, {@link #equals(Object)}, {@link #hashCode()},
+ * {@link #compareTo(EncodedText)}, {@link #regionMatches(long, EncodedText, long, long)} and
+ * {@link #count(char)} work on the run tables and never decode. Because runs are always
+ * merged, two texts are equal exactly when their run tables are, and ordering follows
+ * {@link String#compareTo(String)} on the decoded texts.
+ */
+public final class EncodedText implements Comparable<EncodedText> {
+
+    private static final EncodedText EMPTY = new EncodedText(new char[0], new long[0], 0, 0);
+
+    private final char[] symbols;
+    private final long[] ends;
+    private final int runCount;
+    private final long length;
+    private int hash;
+
+    /**
+     * The end of the last run is {@code length}, never {@code ends[runCount - 1]}: a
+     * {@link Builder} keeps extending that slot in place after handing out a snapshot.
+     */
+    private EncodedText(char[] symbols, long[] ends, int runCount, long length) {
+        this.symbols = symbols;
+        this.ends = ends;
+        this.runCount = runCount;
+        this.length = length;
+    }
+
+    public static EncodedText empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the run table of a value produced by {@link LengthEncoding#encode(String, EncodingFormat)}.
+     *
+     * @throws IllegalArgumentException if {@code encoded} is not a valid value in {@code format}
+     */
+    public static EncodedText parse(CharSequence encoded, EncodingFormat format) {
+        if (encoded == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        if (format == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_FORMAT.getMessage());
+        }
+
+        Builder builder = new Builder();
+        RunCursor cursor = new RunCursor(encoded, format);
+        while (cursor.next()) {
+            builder.append(cursor.symbol(), cursor.count());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Length of the decoded text.
+     */
+    public long length() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return runCount == 0;
+    }
+
+    public int runCount() {
+        return runCount;
+    }
+
+    /**
+     * Returns the decoded char at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, length())}
+     */
+    public char charAt(long index) {
+        Objects.checkIndex(index, length());
+        return symbols[runAt(index)];
+    }
+
+    /**
+     * Decodes the chars in {@code [from, to)}, touching only the runs that overlap the range.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within {@code [0, length()]}
+     * @throws IllegalArgumentException  if the range is longer than the maximum array size
+     */
+    public String substring(long from, long to) {
+        Objects.checkFromToIndex(from, to, length());
+        if (to - from > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+        }
+        if (from == to) {
+            return "";
+        }
+
+        char[] result = new char[(int) (to - from)];
+        int position = 0;
+        for (int run = runAt(from); position < result.length; run++) {
+            int next = (int) (Math.min(runEnd(run), to) - from);
+            Arrays.fill(result, position, next, symbols[run]);
+            position = next;
+        }
+        return new String(result);
+    }
+
+    /**
+     * Decodes the whole text.
+     *
+     * @throws IllegalArgumentException if the text is longer than the maximum array size
+     */
+    public String decode() {
+        return substring(0, length());
+    }
+
+    /**
+     * Returns the textual encoding in {@code format}, identical to what
+     * {@link LengthEncoding#encode(String, EncodingFormat)} returns for the decoded text.
+     */
+    public String encode(EncodingFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_FORMAT.getMessage());
+        }
+
+        StringBuilder result = new StringBuilder(runCount * EncodingConfig.INITIAL_CAPACITY_MULTIPLIER.getValue());
+        for (int run = 0; run < runCount; run++) {
+            LengthEncodingService.appendRun(result, symbols[run], runLength(run), format);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the text followed by {@code other}, merging the two boundary runs when they
+     * carry the same symbol. Costs {@code O(runs)}.
+     */
+    public EncodedText concat(EncodedText other) {
+        if (other == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        if (other.runCount == 0) {
+            return this;
+        }
+        if (runCount == 0) {
+            return other;
+        }
+
+        boolean merge = symbols[runCount - 1] == other.symbols[0];
+        int count = runCount + other.runCount - (merge ? 1 : 0);
+        char[] joinedSymbols = Arrays.copyOf(symbols, count);
+        long[] joinedEnds = Arrays.copyOf(ends, count);
+        joinedEnds[runCount - 1] = length;
+
+        int target = merge ? runCount - 1 : runCount;
+        for (int run = 0; run < other.runCount; run++, target++) {
+            joinedSymbols[target] = other.symbols[run];
+            joinedEnds[target] = length + other.runEnd(run);
+        }
+        return new EncodedText(joinedSymbols, joinedEnds, count, length + other.length);
+    }
+
+    /**
+     * Number of occurrences of {@code c} in the decoded text.
+     */
+    public long count(char c) {
+        long total = 0;
+        for (int run = 0; run < runCount; run++) {
+            if (symbols[run] == c) {
+                total += runLength(run);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Tests whether the decoded {@code [offset, offset + length)} equals
+     * {@code [otherOffset, otherOffset + length)} of {@code other}, like
+     * {@link String#regionMatches(int, String, int, int)}: ranges outside either text do not
+     * match. Costs {@code O(log runs)} plus the runs inside the regions.
+     */
+    public boolean regionMatches(long offset, EncodedText other, long otherOffset, long length) {
+        if (other == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        if (offset < 0 || otherOffset < 0 || length < 0
+                || offset > this.length - length || otherOffset > other.length - length) {
+            return false;
+        }
+        if (length == 0) {
+            return true;
+        }
+
+        int run = runAt(offset);
+        int otherRun = other.runAt(otherOffset);
+        long matched = 0;
+        while (matched < length) {
+            if (symbols[run] != other.symbols[otherRun]) {
+                return false;
+            }
+            long remaining = runEnd(run) - (offset + matched);
+            long otherRemaining = other.runEnd(otherRun) - (otherOffset + matched);
+            long step = Math.min(length - matched, Math.min(remaining, otherRemaining));
+            matched += step;
+            if (step == remaining) {
+                run++;
+            }
+            if (step == otherRemaining) {
+                otherRun++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the decoded texts lexicographically by UTF-16 code unit, in {@code O(runs)}.
+     */
+    @Override
+    public int compareTo(EncodedText other) {
+        int run = 0;
+        int otherRun = 0;
+        while (run < runCount && otherRun < other.runCount) {
+            char symbol = symbols[run];
+            char otherSymbol = other.symbols[otherRun];
+            if (symbol != otherSymbol) {
+                return Character.compare(symbol, otherSymbol);
+            }
+
+            long end = runEnd(run);
+            long otherEnd = other.runEnd(otherRun);
+            if (end <= otherEnd) {
+                run++;
+            }
+            if (otherEnd <= end) {
+                otherRun++;
+            }
+        }
+        return Long.compare(length, other.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncodedText other) || runCount != other.runCount || length != other.length) {
+            return false;
+        }
+        for (int run = 0; run < runCount; run++) {
+            if (symbols[run] != other.symbols[run] || runEnd(run) != other.runEnd(run)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = 1;
+            for (int run = 0; run < runCount; run++) {
+                result = 31 * result + symbols[run];
+                result = 31 * result + Long.hashCode(runEnd(run));
+            }
+            hash = result;
+        }
+        return result;
+    }
+
+    long runStart(int run) {
+        return run == 0 ? 0 : ends[run - 1];
+    }
+
+    long runEnd(int run) {
+        return run == runCount - 1 ? length : ends[run];
+    }
+
+    long runLength(int run) {
+        return runEnd(run) - runStart(run);
+    }
+
+    /**
+     * Index of the run containing decoded offset {@code index}: the first run whose end is
+     * greater than it.
+     */
+    int runAt(long index) {
+        int found = Arrays.binarySearch(ends, 0, Math.max(0, runCount - 1), index);
+        return found >= 0 ? found + 1 : -found - 1;
+    }
+
+    /**
+     * Accumulates runs in order, merging a run into the previous one when the symbols match.
+     * Slots below the current last run are never written again, so {@link #snapshot()} can
+     * share the arrays instead of copying them.
+     */
+    static final class Builder {
+
+        private char[] symbols = new char[16];
+        private long[] ends = new long[16];
+        private int runCount;
+        private long length;
+
+        Builder append(char symbol, long count) {
+            if (count <= 0) {
+                return this;
+            }
+
+            length += count;
+            if (runCount > 0 && symbols[runCount - 1] == symbol) {
+                ends[runCount - 1] = length;
+                return this;
+            }
+
+            if (runCount == symbols.length) {
+                int capacity = Math.max(16, runCount + (runCount >> 1));
+                symbols = Arrays.copyOf(symbols, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            symbols[runCount] = symbol;
+            ends[runCount] = length;
+            runCount++;
+            return this;
+        }
+
+        long length() {
+            return length;
+        }
+
+        /**
+         * Returns the runs appended so far in {@code O(1)}, sharing this builder's arrays.
+         */
+        EncodedText snapshot() {
+            return runCount == 0 ? EMPTY : new EncodedText(symbols, ends, runCount, length);
+        }
+
+        /**
+         * Returns the runs appended so far in arrays trimmed to size.
+         */
+        EncodedText build() {
+            if (runCount == 0) {
+                return EMPTY;
+            }
+            return new EncodedText(Arrays.copyOf(symbols, runCount), Arrays.copyOf(ends, runCount), runCount, length);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of reusable {@code char[]} output buffers for
+ * {@link LengthEncoding#encodeInto(char[], int, int, char[], int)}.
+ *
+ * <p>Pooled buffers all have the same length, so any pooled buffer satisfies any request up to
+ * {@link #bufferLength()}; larger requests get a fresh array that {@link #release(char[])} then
+ * drops. Slots are claimed with compare-and-set rather than locks or thread-locals, which keeps
+ * the pool safe and effective under virtual threads: nothing pins a carrier thread, and buffers
+ * are not tied to short-lived threads that would never reuse them.
+ */
+public final class EncodingBufferPool {
+
+    private final AtomicReferenceArray<char[]> slots;
+    private final int bufferLength;
+
+    public EncodingBufferPool() {
+        this(EncodingConfig.POOL_MAX_BUFFERS.getValue(), EncodingConfig.POOL_BUFFER_LENGTH.getValue());
+    }
+
+    public EncodingBufferPool(int maxBuffers, int bufferLength) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, maxBuffers));
+        this.bufferLength = bufferLength;
+    }
+
+    /**
+     * Returns a buffer of at least {@code minLength} chars, pooled when {@code minLength} fits
+     * within {@link #bufferLength()}. Contents are unspecified.
+     */
+    public char[] acquire(int minLength) {
+        if (minLength > bufferLength) {
+            return new char[minLength];
+        }
+
+        int slotCount = slots.length();
+        int start = probe(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int index = (start + i) % slotCount;
+            char[] buffer = slots.get(index);
+            if (buffer != null && slots.compareAndSet(index, buffer, null)) {
+                return buffer;
+            }
+        }
+        return new char[bufferLength];
+    }
+
+    /**
+     * Hands a buffer back to the pool. Buffers that were not sized by this pool, or that arrive
+     * when every slot is taken, are left to the garbage collector.
+     */
+    public void release(char[] buffer) {
+        if (buffer == null || buffer.length != bufferLength) {
+            return;
+        }
+
+        int slotCount = slots.length();
+        int start = probe(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int index = (start + i) % slotCount;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    public int bufferLength() {
+        return bufferLength;
+    }
+
+    private static int probe(int slotCount) {
+        return (int) (Thread.currentThread().threadId() % slotCount);
+    }
+}
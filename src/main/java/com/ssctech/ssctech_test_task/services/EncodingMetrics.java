@@ -0,0 +1,228 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Micrometer and JFR instrumentation of the encode paths of {@link LengthEncodingService}.
+ *
+ * <p>Every encode is counted ({@code rle.encode.calls}), which costs one uncontended
+ * {@link LongAdder} increment. Latency, input and output length, compression ratio
+ * and run count are recorded for a random sample of one encode in {@code sampleRate}. Recording
+ * percentiles for every call would cost more than encoding a short key. Percentiles stay
+ * unbiased; the {@code count} of those meters is the sampled count.
+ * Encodes of at least {@code largeEncodeThreshold} chars also emit a {@link LargeEncodeEvent},
+ * sampled or not.
+ *
+ * <p>{@link #start(Api, EncodingFormat, long)} returns {@code null} for calls that are neither
+ * sampled nor large, so the common path allocates nothing. A stream, whose length is unknown
+ * when it starts, only gets an event once {@link #reached} sees it cross the threshold.
+ */
+final class EncodingMetrics {
+
+    static final long UNKNOWN = -1;
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    enum Api {
+        SINGLE, BATCH, STREAM, ASYNC;
+
+        final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private final boolean recording;
+    private final int sampleRate;
+    private final long largeEncodeThreshold;
+    private final LongAdder[][] calls;
+    private final Timer[][] latency;
+    private final DistributionSummary[][] inputLength;
+    private final DistributionSummary[][] outputLength;
+    private final DistributionSummary[][] ratio;
+    private final DistributionSummary[][] runs;
+
+    /** Runs longer than {@link EncodingConfig#MAX_CHAR_COUNT} that were split into several pairs. */
+    private final LongAdder maxCountSplits = new LongAdder();
+
+    /**
+     * @param registry registry the meters are registered with, or {@code null} to only emit JFR events
+     */
+    EncodingMetrics(MeterRegistry registry, int sampleRate, long largeEncodeThreshold) {
+        this.recording = registry != null;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.largeEncodeThreshold = largeEncodeThreshold;
+
+        int apis = Api.values().length;
+        int formats = EncodingFormat.values().length;
+        calls = new LongAdder[apis][formats];
+        latency = new Timer[apis][formats];
+        inputLength = new DistributionSummary[apis][formats];
+        outputLength = new DistributionSummary[apis][formats];
+        ratio = new DistributionSummary[apis][formats];
+        runs = new DistributionSummary[apis][formats];
+        if (registry == null) {
+            return;
+        }
+
+        for (Api api : Api.values()) {
+            for (EncodingFormat format : EncodingFormat.values()) {
+                int a = api.ordinal();
+                int f = format.ordinal();
+                String formatTag = format.name().toLowerCase(Locale.ROOT);
+                LongAdder counter = new LongAdder();
+                calls[a][f] = counter;
+                FunctionCounter.builder("rle.encode.calls", counter, LongAdder::sum)
+                        .description("Encode calls")
+                        .tags("api", api.tag, "format", formatTag)
+                        .register(registry);
+                latency[a][f] = Timer.builder("rle.encode.latency")
+                        .description("Encode latency (sampled)")
+                        .tags("api", api.tag, "format", formatTag)
+                        .publishPercentiles(PERCENTILES)
+                        .register(registry);
+                inputLength[a][f] = summary(registry, "rle.encode.input.length", "Input length (sampled)",
+                        "chars", api, formatTag);
+                outputLength[a][f] = summary(registry, "rle.encode.output.length", "Encoded length (sampled)",
+                        "chars", api, formatTag);
+                ratio[a][f] = summary(registry, "rle.encode.compression.ratio",
+                        "Encoded length divided by input length (sampled)", null, api, formatTag);
+                runs[a][f] = summary(registry, "rle.encode.runs", "Runs per input (sampled)", "runs", api, formatTag);
+            }
+        }
+
+        FunctionCounter.builder("rle.encode.splits", maxCountSplits, LongAdder::sum)
+                .description("Runs split into several pairs because they exceed the maximum count")
+                .register(registry);
+    }
+
+    /**
+     * Starts observing one encode. {@code inputLength} may be {@link #UNKNOWN} for streams, whose
+     * length is only known when they end; those are then observed only if sampled, until
+     * {@link #reached} reports them large.
+     *
+     * @return the observation to {@link Observation#stop stop}, or {@code null} if there is nothing to record
+     */
+    Observation start(Api api, EncodingFormat format, long inputLength) {
+        boolean sampled = false;
+        if (recording) {
+            calls[api.ordinal()][format.ordinal()].increment();
+            sampled = ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        }
+        if (sampled || inputLength >= largeEncodeThreshold) {
+            return begin(api, format, sampled, inputLength);
+        }
+        return null;
+    }
+
+    // Kept out of start() so the common path stays small enough to inline into every encode.
+    private Observation begin(Api api, EncodingFormat format, boolean sampled, long inputLength) {
+        return new Observation(api, format, sampled, inputLength >= largeEncodeThreshold ? largeEncodeEvent() : null,
+                System.nanoTime());
+    }
+
+    /**
+     * Reports that a stream started with {@link #UNKNOWN} length has consumed {@code consumed}
+     * chars so far. Once that reaches the threshold, the stream's {@link LargeEncodeEvent}
+     * begins, so the event covers the encode from that point on.
+     *
+     * @return the observation to continue with, possibly created by this call
+     */
+    Observation reached(Observation observation, Api api, EncodingFormat format, long consumed) {
+        if (consumed < largeEncodeThreshold || (observation != null && observation.event != null)) {
+            return observation;
+        }
+        if (observation == null) {
+            return new Observation(api, format, false, largeEncodeEvent(), System.nanoTime());
+        }
+        observation.event = largeEncodeEvent();
+        return observation;
+    }
+
+    /**
+     * Counts pairs split off runs longer than {@link EncodingConfig#MAX_CHAR_COUNT}.
+     */
+    void recordSplits(int splits) {
+        if (splits > 0) {
+            maxCountSplits.add(splits);
+        }
+    }
+
+    private static LargeEncodeEvent largeEncodeEvent() {
+        LargeEncodeEvent event = new LargeEncodeEvent();
+        event.begin();
+        return event;
+    }
+
+    private static DistributionSummary summary(MeterRegistry registry, String name, String description,
+                                               String baseUnit, Api api, String formatTag) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .tags("api", api.tag, "format", formatTag)
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+    }
+
+    final class Observation {
+
+        private final Api api;
+        private final EncodingFormat format;
+        private final boolean sampled;
+        private LargeEncodeEvent event;
+        private final long startNanos;
+
+        private Observation(Api api, EncodingFormat format, boolean sampled, LargeEncodeEvent event, long startNanos) {
+            this.api = api;
+            this.format = format;
+            this.sampled = sampled;
+            this.event = event;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Ends the observation. The latency and the JFR event are taken before {@code runCount} is
+         * called, so counting the runs, a second pass over the input, is not part of them.
+         *
+         * @param runCount counts the runs of the input when the encode is sampled, or {@code null}
+         *                 if they are not counted
+         */
+        void stop(long inputChars, long outputChars, LongSupplier runCount) {
+            long elapsed = System.nanoTime() - startNanos;
+
+            if (event != null && inputChars >= largeEncodeThreshold) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.api = api.tag;
+                    event.format = format.name();
+                    event.inputLength = inputChars;
+                    event.outputLength = outputChars;
+                    event.commit();
+                }
+            }
+
+            if (!sampled) {
+                return;
+            }
+            int a = api.ordinal();
+            int f = format.ordinal();
+            latency[a][f].record(elapsed, TimeUnit.NANOSECONDS);
+            inputLength[a][f].record(inputChars);
+            outputLength[a][f].record(outputChars);
+            if (inputChars > 0) {
+                ratio[a][f].record((double) outputChars / inputChars);
+            }
+            if (runCount != null) {
+                runs[a][f].record(runCount.getAsLong());
+            }
+        }
+    }
+}
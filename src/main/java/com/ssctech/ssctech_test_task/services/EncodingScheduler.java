@@ -0,0 +1,55 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Routes asynchronous encodes into two lanes by input length, so short requests never queue
+ * behind large documents.
+ *
+ * <p>Inputs shorter than {@code app.encoding.async.lane-threshold} chars go to the small lane,
+ * where each request runs to completion on its own pool. Longer inputs go to the large lane,
+ * whose pool is separate and whose jobs are time-sliced: every job encodes
+ * {@code slice-size} chars, then goes to the back of the lane's queue. A multi-megabyte
+ * document therefore holds a large-lane thread for one slice at a time, and a large job that
+ * arrives later is not starved by one that arrived earlier. Each lane admits by bytes
+ * independently (see {@link AsyncEncoder}). {@link #close()} shuts both lanes down.
+ */
+final class EncodingScheduler implements AutoCloseable {
+
+    private final AsyncEncoder smallLane;
+    private final AsyncEncoder largeLane;
+    private final int laneThreshold;
+
+    EncodingScheduler(EncodingProperties.Async properties) {
+        this.smallLane = new AsyncEncoder("rle-small", properties.getThreads(),
+                properties.getMaxInFlightBytes(), properties.getMaxQueuedBytes());
+        this.largeLane = new AsyncEncoder("rle-large", properties.getLargeThreads(),
+                properties.getMaxInFlightBytes(), properties.getMaxQueuedBytes());
+        this.laneThreshold = properties.getLaneThreshold();
+    }
+
+    /**
+     * @param length input chars, which pick the lane
+     * @param bytes  memory the encode may hold, input and output, which the lane admits by
+     * @param whole  encodes a small input in one go, polling the supplier for cancellation
+     * @param sliced creates the time-sliced job for a large input
+     */
+    <T> CompletableFuture<T> submit(int length, long bytes, Function<BooleanSupplier, T> whole,
+                                    Supplier<AsyncEncoder.Job<T>> sliced) {
+        if (length < laneThreshold) {
+            return smallLane.submit(bytes, whole);
+        }
+        return largeLane.submitSliced(bytes, sliced.get());
+    }
+
+    @Override
+    public void close() {
+        smallLane.close();
+        largeLane.close();
+    }
+}
@@ -0,0 +1,192 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Run-length encodes files without loading them onto the heap.
+ *
+ * <p>The input is mapped with {@link FileChannel#map} one window at a time and each byte is
+ * treated as a Latin-1 char, so the output is exactly what
+ * {@link LengthEncoding#encode(byte[], EncodingFormat)} would return for the file contents,
+ * written as Latin-1 bytes. Runs are carried across windows, and encoded pairs are collected
+ * in a direct buffer that is written to the output channel whenever it fills up. Heap usage
+ * is constant regardless of the file size.
+ *
+ * @author SSC Tech
+ * @since 1.0
+ */
+@Service
+public class FileEncodingService {
+
+    private static final int MAX_PAIR_LENGTH = 12;
+
+    private final RunScanner runScanner;
+    private final int windowSize;
+    private final int outputBufferSize;
+
+    public FileEncodingService() {
+        this(new EncodingProperties());
+    }
+
+    @Autowired
+    public FileEncodingService(EncodingProperties properties) {
+        this(RunScanner.create(properties.isVectorized()),
+                EncodingConfig.MAPPED_WINDOW_SIZE.getValue(),
+                EncodingConfig.FILE_OUTPUT_BUFFER_SIZE.getValue());
+    }
+
+    FileEncodingService(RunScanner runScanner, int windowSize, int outputBufferSize) {
+        this.runScanner = runScanner;
+        this.windowSize = windowSize;
+        this.outputBufferSize = Math.max(outputBufferSize, MAX_PAIR_LENGTH);
+    }
+
+    public long encode(Path input, Path output) throws IOException {
+        return encode(input, output, EncodingFormat.CLASSIC);
+    }
+
+    /**
+     * Encodes {@code input} into {@code output}, replacing any existing output file.
+     *
+     * @return the number of bytes written to {@code output}
+     */
+    public long encode(Path input, Path output, EncodingFormat format) throws IOException {
+        validateNotNull(input, ValidationError.NULL_INPUT);
+        validateNotNull(output, ValidationError.NULL_OUTPUT);
+        validateFormat(format);
+        if (Files.exists(output) && Files.isSameFile(input, output)) {
+            throw new IllegalArgumentException(ValidationError.SAME_INPUT_AND_OUTPUT.getMessage());
+        }
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return encode(in, out, format);
+        }
+    }
+
+    /**
+     * Encodes the whole of {@code input}, from offset 0 to its current size, into {@code output}.
+     * The channels are left open.
+     *
+     * @return the number of bytes written to {@code output}
+     */
+    public long encode(FileChannel input, WritableByteChannel output, EncodingFormat format) throws IOException {
+        validateNotNull(input, ValidationError.NULL_INPUT);
+        validateNotNull(output, ValidationError.NULL_OUTPUT);
+        validateFormat(format);
+
+        long size = input.size();
+        PairWriter writer = new PairWriter(output, ByteBuffer.allocateDirect(outputBufferSize), format);
+        byte symbol = 0;
+        long count = 0;
+
+        for (long offset = 0; offset < size; offset += windowSize) {
+            int length = (int) Math.min(windowSize, size - offset);
+            MappedByteBuffer window = input.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            int position = 0;
+
+            while (position < length) {
+                int end = runScanner.runEnd(window, position, length);
+                byte current = window.get(position);
+
+                if (count > 0 && current == symbol) {
+                    count += end - position;
+                } else {
+                    if (count > 0) {
+                        writer.writeRun(symbol, count);
+                    }
+                    symbol = current;
+                    count = end - position;
+                }
+                position = end;
+            }
+        }
+
+        if (count > 0) {
+            writer.writeRun(symbol, count);
+        }
+        writer.flush();
+        return writer.written;
+    }
+
+    private void validateNotNull(Object value, ValidationError error) {
+        if (value == null) {
+            throw new IllegalArgumentException(error.getMessage());
+        }
+    }
+
+    private void validateFormat(EncodingFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_FORMAT.getMessage());
+        }
+    }
+
+    /**
+     * Writes {@code symbol+count} pairs as Latin-1 bytes through a direct buffer.
+     */
+    private static final class PairWriter {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private final EncodingFormat format;
+        private final byte[] digits = new byte[10];
+        private long written;
+
+        PairWriter(WritableByteChannel channel, ByteBuffer buffer, EncodingFormat format) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.format = format;
+        }
+
+        void writeRun(byte symbol, long count) throws IOException {
+            int maxCount = EncodingConfig.MAX_CHAR_COUNT.getValue();
+            while (count > maxCount) {
+                writePair(symbol, maxCount);
+                count -= maxCount;
+            }
+            writePair(symbol, (int) count);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void writePair(byte symbol, int count) throws IOException {
+            if (buffer.remaining() < MAX_PAIR_LENGTH) {
+                flush();
+            }
+            if (format.requiresEscape((char) (symbol & 0xFF))) {
+                buffer.put((byte) EncodingFormat.ESCAPE);
+            }
+            buffer.put(symbol);
+
+            int length = 0;
+            do {
+                digits[length++] = (byte) ('0' + count % 10);
+                count /= 10;
+            } while (count > 0);
+            while (length > 0) {
+                buffer.put(digits[--length]);
+            }
+        }
+    }
+}
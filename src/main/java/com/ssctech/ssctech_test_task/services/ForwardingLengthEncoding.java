@@ -0,0 +1,148 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base class for decorators of {@link LengthEncoding}: forwards every operation to a delegate,
+ * so a subclass only overrides the operations it changes. The format-less overloads go through
+ * the format-taking ones on {@code this}, so overriding the latter covers both.
+ */
+public abstract class ForwardingLengthEncoding implements LengthEncoding {
+
+    private final LengthEncoding delegate;
+
+    protected ForwardingLengthEncoding(LengthEncoding delegate) {
+        this.delegate = delegate;
+    }
+
+    protected LengthEncoding delegate() {
+        return delegate;
+    }
+
+    @Override
+    public String encode(char[] input) {
+        return encode(input, EncodingFormat.CLASSIC);
+    }
+
+    @Override
+    public String encode(String input) {
+        return encode(input, EncodingFormat.CLASSIC);
+    }
+
+    @Override
+    public String encode(char[] input, EncodingFormat format) {
+        return delegate.encode(input, format);
+    }
+
+    @Override
+    public String encode(String input, EncodingFormat format) {
+        return delegate.encode(input, format);
+    }
+
+    @Override
+    public String encode(CharSequence input, EncodingFormat format) {
+        return delegate.encode(input, format);
+    }
+
+    @Override
+    public String encode(byte[] input, EncodingFormat format) {
+        return delegate.encode(input, format);
+    }
+
+    @Override
+    public String encode(ByteBuffer input, EncodingFormat format) {
+        return delegate.encode(input, format);
+    }
+
+    @Override
+    public void encode(Reader input, Appendable output) throws IOException {
+        encode(input, output, EncodingFormat.CLASSIC);
+    }
+
+    @Override
+    public void encode(Reader input, Appendable output, EncodingFormat format) throws IOException {
+        delegate.encode(input, output, format);
+    }
+
+    @Override
+    public CompletableFuture<String> encodeAsync(CharSequence input, EncodingFormat format) {
+        return delegate.encodeAsync(input, format);
+    }
+
+    @Override
+    public EncodedText encodeText(CharSequence input) {
+        return delegate.encodeText(input);
+    }
+
+    @Override
+    public String decode(String encoded, EncodingFormat format) {
+        return delegate.decode(encoded, format);
+    }
+
+    @Override
+    public char[] decode(char[] encoded, EncodingFormat format) {
+        return delegate.decode(encoded, format);
+    }
+
+    @Override
+    public void decode(Reader input, Appendable output, EncodingFormat format) throws IOException {
+        delegate.decode(input, output, format);
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> inputs, EncodingFormat format) {
+        return delegate.encodeAll(inputs, format);
+    }
+
+    @Override
+    public void encodeAll(String[] inputs, String[] output, EncodingFormat format) {
+        delegate.encodeAll(inputs, output, format);
+    }
+
+    @Override
+    public int encodedLength(char[] input, int offset, int length, EncodingFormat format) {
+        return delegate.encodedLength(input, offset, length, format);
+    }
+
+    @Override
+    public int encodeInto(char[] input, int offset, int length, char[] output, int outputOffset, EncodingFormat format) {
+        return delegate.encodeInto(input, offset, length, output, outputOffset, format);
+    }
+
+    @Override
+    public byte[] encodeBinary(CharSequence input, RunLengthCodec codec) {
+        return delegate.encodeBinary(input, codec);
+    }
+
+    @Override
+    public int encodeBinary(CharSequence input, ByteBuffer output, RunLengthCodec codec) {
+        return delegate.encodeBinary(input, output, codec);
+    }
+
+    @Override
+    public String decodeBinary(byte[] encoded, RunLengthCodec codec) {
+        return delegate.decodeBinary(encoded, codec);
+    }
+
+    @Override
+    public String decodeBinary(ByteBuffer encoded, RunLengthCodec codec) {
+        return delegate.decodeBinary(encoded, codec);
+    }
+
+    @Override
+    public byte[] encodeAdaptive(CharSequence input) {
+        return delegate.encodeAdaptive(input);
+    }
+
+    @Override
+    public String decodeAdaptive(byte[] encoded) {
+        return delegate.decodeAdaptive(encoded);
+    }
+}
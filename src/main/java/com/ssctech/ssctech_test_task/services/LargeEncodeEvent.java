@@ -0,0 +1,34 @@
+package com.ssctech.ssctech_test_task.services;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one encode whose input reached {@code app.encoding.metrics.large-encode-threshold}
+ * chars. Lined up with GC and safepoint events in the same recording, it shows whether a latency
+ * spike came from the input itself or from the JVM around it.
+ */
+@Name("com.ssctech.rle.LargeEncode")
+@Label("Large Encode")
+@Category("Run-Length Encoding")
+@Description("Encode of an input at or above the large-encode threshold")
+@StackTrace(false)
+final class LargeEncodeEvent extends jdk.jfr.Event {
+
+    @Label("API")
+    String api;
+
+    @Label("Format")
+    String format;
+
+    @Label("Input Length")
+    @Description("Input length in chars (bytes for Latin-1 inputs)")
+    long inputLength;
+
+    @Label("Output Length")
+    @Description("Encoded length in chars")
+    long outputLength;
+}
@@ -0,0 +1,157 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Decoders for the textual run-length formats.
+ *
+ * <p>The in-memory variants make two passes over the encoded value: the first sums the run
+ * lengths, so the output is allocated exactly once at its final size, and the second fills
+ * it run by run with bulk fills. The streaming variant decodes into a fixed-size buffer and
+ * carries the partially parsed run across reads.
+ */
+final class LengthDecoder {
+
+    private static final int EXPECT_SYMBOL = 0;
+    private static final int EXPECT_ESCAPED_SYMBOL = 1;
+    private static final int EXPECT_COUNT = 2;
+    private static final int IN_COUNT = 3;
+
+    private LengthDecoder() {
+    }
+
+    static String decode(CharSequence encoded, EncodingFormat format) {
+        StringBuilder result = new StringBuilder(decodedLength(encoded, format));
+        RunCursor cursor = new RunCursor(encoded, format);
+
+        while (cursor.next()) {
+            result.repeat(cursor.symbol(), cursor.count());
+        }
+
+        return result.toString();
+    }
+
+    static char[] decode(char[] encoded, EncodingFormat format) {
+        CharBuffer source = CharBuffer.wrap(encoded);
+        char[] result = new char[decodedLength(source, format)];
+        RunCursor cursor = new RunCursor(source, format);
+        int position = 0;
+
+        while (cursor.next()) {
+            int next = position + cursor.count();
+            Arrays.fill(result, position, next, cursor.symbol());
+            position = next;
+        }
+
+        return result;
+    }
+
+    static void decode(Reader input, Appendable output, EncodingFormat format) throws IOException {
+        int bufferSize = EncodingConfig.STREAM_BUFFER_SIZE.getValue();
+        char[] buffer = new char[bufferSize];
+        char[] decoded = new char[bufferSize];
+        CharBuffer decodedView = CharBuffer.wrap(decoded);
+        int decodedLength = 0;
+
+        int state = EXPECT_SYMBOL;
+        char symbol = 0;
+        long count = 0;
+        int read;
+
+        while ((read = input.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char current = buffer[i];
+
+                if (state == EXPECT_COUNT || state == IN_COUNT) {
+                    if (EncodingFormat.isDigit(current)) {
+                        count = count * 10 + (current - '0');
+                        if (count > EncodingConfig.MAX_CHAR_COUNT.getValue()) {
+                            throw invalidFormat();
+                        }
+                        state = IN_COUNT;
+                        continue;
+                    }
+                    if (state == EXPECT_COUNT || count == 0) {
+                        throw invalidFormat();
+                    }
+                    decodedLength = fillRun(output, decoded, decodedView, decodedLength, symbol, count);
+                    state = EXPECT_SYMBOL;
+                }
+
+                if (state == EXPECT_ESCAPED_SYMBOL) {
+                    symbol = current;
+                } else if (format == EncodingFormat.ESCAPED && current == EncodingFormat.ESCAPE) {
+                    state = EXPECT_ESCAPED_SYMBOL;
+                    continue;
+                } else if (format == EncodingFormat.ESCAPED && EncodingFormat.isDigit(current)) {
+                    throw invalidFormat();
+                } else {
+                    symbol = current;
+                }
+                count = 0;
+                state = EXPECT_COUNT;
+            }
+        }
+
+        if (state == IN_COUNT && count > 0) {
+            decodedLength = fillRun(output, decoded, decodedView, decodedLength, symbol, count);
+        } else if (state != EXPECT_SYMBOL) {
+            throw invalidFormat();
+        }
+        flush(output, decoded, decodedView, decodedLength);
+    }
+
+    static int decodedLength(CharSequence encoded, EncodingFormat format) {
+        RunCursor cursor = new RunCursor(encoded, format);
+        long length = 0;
+
+        while (cursor.next()) {
+            length += cursor.count();
+            if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+                throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+            }
+        }
+
+        return (int) length;
+    }
+
+    private static int fillRun(Appendable output, char[] decoded, CharBuffer decodedView, int decodedLength,
+                               char symbol, long count) throws IOException {
+        while (count > 0) {
+            int length = (int) Math.min(count, decoded.length - decodedLength);
+            Arrays.fill(decoded, decodedLength, decodedLength + length, symbol);
+            decodedLength += length;
+            count -= length;
+
+            if (decodedLength == decoded.length) {
+                flush(output, decoded, decodedView, decodedLength);
+                decodedLength = 0;
+            }
+        }
+        return decodedLength;
+    }
+
+    private static void flush(Appendable output, char[] decoded, CharBuffer decodedView, int length)
+            throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (output instanceof Writer writer) {
+            writer.write(decoded, 0, length);
+        } else {
+            output.append(decodedView, 0, length);
+        }
+    }
+
+    private static IllegalArgumentException invalidFormat() {
+        return new IllegalArgumentException(ValidationError.INVALID_FORMAT.getMessage());
+    }
+}
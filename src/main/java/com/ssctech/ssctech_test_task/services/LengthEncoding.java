@@ -1,8 +1,192 @@
 package com.ssctech.ssctech_test_task.services;
 
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+import com.ssctech.ssctech_test_task.services.codec.VarintRunLengthCodec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface LengthEncoding {
 
     String encode(char[] input);
 
     String encode(String input);
+
+    String encode(char[] input, EncodingFormat format);
+
+    String encode(String input, EncodingFormat format);
+
+    /**
+     * Encodes any {@link CharSequence} (builders, {@link java.nio.CharBuffer}s, ...) without
+     * copying it into an intermediate {@code String} or {@code char[]}.
+     */
+    String encode(CharSequence input, EncodingFormat format);
+
+    /**
+     * Encodes Latin-1 (or ASCII) bytes, one char per byte.
+     */
+    String encode(byte[] input, EncodingFormat format);
+
+    /**
+     * Encodes the remaining Latin-1 bytes of {@code input}, heap or direct, without changing its
+     * position.
+     */
+    String encode(ByteBuffer input, EncodingFormat format);
+
+    default String encode(CharSequence input) {
+        return encode(input, EncodingFormat.CLASSIC);
+    }
+
+    default String encode(byte[] input) {
+        return encode(input, EncodingFormat.CLASSIC);
+    }
+
+    default String encode(ByteBuffer input) {
+        return encode(input, EncodingFormat.CLASSIC);
+    }
+
+    /**
+     * Encodes everything {@code input} yields into {@code output}, reading through a fixed-size
+     * buffer so memory use does not depend on the input length. Runs that cross buffer
+     * boundaries are encoded exactly as {@link #encode(char[])} would encode them.
+     * Neither stream is closed.
+     */
+    void encode(Reader input, Appendable output) throws IOException;
+
+    void encode(Reader input, Appendable output, EncodingFormat format) throws IOException;
+
+    /**
+     * Encodes {@code input} on a dedicated bounded executor. Admission is by input bytes: when
+     * too many are in flight the request waits, and once the wait queue is full as well the
+     * future fails with a {@link java.util.concurrent.RejectedExecutionException}. Cancelling
+     * the future, or timing it out with {@link CompletableFuture#orTimeout}, also stops an
+     * encode that is already running at its next window. {@code input} must not change until
+     * the future completes.
+     */
+    CompletableFuture<String> encodeAsync(CharSequence input, EncodingFormat format);
+
+    default CompletableFuture<String> encodeAsync(CharSequence input) {
+        return encodeAsync(input, EncodingFormat.CLASSIC);
+    }
+
+    /**
+     * Encodes {@code input} into an {@link EncodedText}, whose chars and substrings can be read
+     * without decoding the whole value. Unlike the textual forms it needs no format; pass one
+     * to {@link EncodedText#encode(EncodingFormat)} when the text is needed.
+     */
+    EncodedText encodeText(CharSequence input);
+
+    /**
+     * Reverses {@link #encode(String, EncodingFormat)}. Values encoded with
+     * {@link EncodingFormat#CLASSIC} only round-trip when the original input contained no digits.
+     *
+     * @throws IllegalArgumentException if {@code encoded} is not a valid value in {@code format}
+     */
+    String decode(String encoded, EncodingFormat format);
+
+    char[] decode(char[] encoded, EncodingFormat format);
+
+    /**
+     * Streaming counterpart of {@link #decode(String, EncodingFormat)}: decodes through fixed-size
+     * buffers, so long runs are written with bulk fills and never held in memory at once.
+     * Neither stream is closed.
+     */
+    void decode(Reader input, Appendable output, EncodingFormat format) throws IOException;
+
+    default String decode(String encoded) {
+        return decode(encoded, EncodingFormat.CLASSIC);
+    }
+
+    default char[] decode(char[] encoded) {
+        return decode(encoded, EncodingFormat.CLASSIC);
+    }
+
+    /**
+     * Encodes every string of {@code inputs} and returns the results in input order. Meant for
+     * large numbers of short strings, where it is much cheaper than one {@code encode} call each.
+     */
+    List<String> encodeAll(List<String> inputs, EncodingFormat format);
+
+    /**
+     * Encodes {@code inputs[i]} into {@code output[i]} for every index. {@code output} may be
+     * {@code inputs} itself. If an element is {@code null}, an exception is thrown and the
+     * contents of {@code output} are unspecified.
+     */
+    void encodeAll(String[] inputs, String[] output, EncodingFormat format);
+
+    default List<String> encodeAll(List<String> inputs) {
+        return encodeAll(inputs, EncodingFormat.CLASSIC);
+    }
+
+    default void encodeAll(String[] inputs, String[] output) {
+        encodeAll(inputs, output, EncodingFormat.CLASSIC);
+    }
+
+    /**
+     * Returns the exact number of chars {@link #encodeInto(char[], int, int, char[], int, EncodingFormat)}
+     * writes for {@code input[offset, offset + length)}, so callers can size or reuse buffers.
+     */
+    int encodedLength(char[] input, int offset, int length, EncodingFormat format);
+
+    /**
+     * Encodes {@code input[offset, offset + length)} into {@code output} starting at
+     * {@code outputOffset}, allocating nothing. Pair {@link EncodingBufferPool} with
+     * {@link #encodedLength(char[], int, int, EncodingFormat)} for allocation-free steady state.
+     *
+     * @return the number of chars written
+     * @throws IllegalArgumentException if {@code output} is too small; chars already written
+     *                                  past {@code outputOffset} are then unspecified
+     */
+    int encodeInto(char[] input, int offset, int length, char[] output, int outputOffset, EncodingFormat format);
+
+    default int encodedLength(char[] input, int offset, int length) {
+        return encodedLength(input, offset, length, EncodingFormat.CLASSIC);
+    }
+
+    default int encodeInto(char[] input, int offset, int length, char[] output, int outputOffset) {
+        return encodeInto(input, offset, length, output, outputOffset, EncodingFormat.CLASSIC);
+    }
+
+    /**
+     * Encodes {@code input} into the binary representation of {@code codec}, e.g.
+     * {@link VarintRunLengthCodec#UTF8}, instead of the textual {@code char+count} form.
+     */
+    byte[] encodeBinary(CharSequence input, RunLengthCodec codec);
+
+    /**
+     * Writes the binary encoding of {@code input} at the position of {@code output}.
+     *
+     * @return the number of bytes written
+     */
+    int encodeBinary(CharSequence input, ByteBuffer output, RunLengthCodec codec);
+
+    String decodeBinary(byte[] encoded, RunLengthCodec codec);
+
+    String decodeBinary(ByteBuffer encoded, RunLengthCodec codec);
+
+    /**
+     * Encodes {@code input} with the codec a {@link CodecSampler} expects to suit it best, and
+     * records that codec's {@link CodecRegistry} id in a one-byte header.
+     */
+    byte[] encodeAdaptive(CharSequence input);
+
+    /**
+     * Reverses {@link #encodeAdaptive(CharSequence)} through the codec named in the header.
+     *
+     * @throws IllegalArgumentException if the header names no registered codec or the payload
+     *                                  is malformed
+     */
+    String decodeAdaptive(byte[] encoded);
+
+    default byte[] encodeBinary(CharSequence input) {
+        return encodeBinary(input, VarintRunLengthCodec.UTF8);
+    }
+
+    default String decodeBinary(byte[] encoded) {
+        return decodeBinary(encoded, VarintRunLengthCodec.UTF8);
+    }
 }
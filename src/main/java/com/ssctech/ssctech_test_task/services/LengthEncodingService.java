@@ -1,9 +1,28 @@
 package com.ssctech.ssctech_test_task.services;
 
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
 import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
 import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
 /**
  * Service implementation for Run-Length Encoding (RLE) operations.
  * 
@@ -25,27 +44,468 @@ import org.springframework.stereotype.Service;
  *   <li>Unicode characters and special characters</li>
  * </ul>
  * 
+ * <p>Besides the in-memory overloads, {@link #encode(Reader, Appendable)} encodes a stream
+ * through a fixed-size buffer, carrying the current run across buffer boundaries, so
+ * arbitrarily large inputs can be encoded in constant memory.
+ * 
+ * <p>Every operation accepts an {@link EncodingFormat}. The format-less overloads use
+ * {@link EncodingFormat#CLASSIC}; {@link EncodingFormat#ESCAPED} is the opt-in format that
+ * stays decodable when the input contains digits.
+ * 
+ * <p>Inputs of at least {@code app.encoding.parallel.threshold} chars are split into chunks
+ * and encoded on the common {@link ForkJoinPool}; runs crossing chunk boundaries are stitched
+ * back together, so the result is identical to the sequential encoding.
+ * 
+ * <p>Run ends are found by a {@link RunScanner}; with {@code --add-modules jdk.incubator.vector}
+ * on the command line (and {@code app.encoding.vectorized} left on) the scanner compares whole
+ * vectors of chars per step instead of one char.
+ * 
+ * <p>Strings and other {@link CharSequence}s are read through a small window rather than
+ * copied whole, and Latin-1 {@code byte[]} and {@link ByteBuffer} inputs are scanned as bytes,
+ * so callers holding builders or network buffers never need an intermediate copy.
+ * 
+ * <p>{@link #encodeAll(String[], String[], EncodingFormat)} encodes batches of short strings
+ * through shared scratch buffers, split into contiguous slices across cores for large batches.
+ * 
+ * <p>{@link #encodeAsync(CharSequence, EncodingFormat)} runs encodes on dedicated bounded pools,
+ * admitted by input bytes so a burst of large requests queues or is rejected instead of
+ * exhausting the heap. An {@link EncodingScheduler} keeps short and long inputs in separate
+ * lanes and time-slices the long ones. {@link #close()} shuts those pools down; Spring calls it
+ * when the context closes.
+ * 
+ * <p>Encodes are instrumented through {@link EncodingMetrics}: Micrometer meters when a
+ * {@link MeterRegistry} is available, and JFR events for large inputs.
+ * 
+ * <p>{@link #encodeText(CharSequence)} keeps the runs in an indexed {@link EncodedText}, so
+ * large documents can stay compressed in memory and still be read at random offsets.
+ * 
+ * <p>For storage and transfer, {@link #encodeBinary(CharSequence, RunLengthCodec)} produces a
+ * binary representation (see {@link com.ssctech.ssctech_test_task.services.codec.VarintRunLengthCodec})
+ * that is smaller than the textual form and cheaper to parse.
+ * {@link #encodeAdaptive(CharSequence)} samples the input and picks a codec from the
+ * {@link CodecRegistry} per input, recording its id in a one-byte header.
+ * 
  * @author SSC Tech
  * @since 1.0
  */
 @Service
-public class LengthEncodingService implements LengthEncoding {
+public class LengthEncodingService implements LengthEncoding, AutoCloseable {
+
+    private static final BooleanSupplier NEVER_CANCELLED = () -> false;
+
+    private final RunScanner runScanner;
+    private final ParallelEncoder parallelEncoder;
+    private final int parallelThreshold;
+    private final EncodingBufferPool bufferPool;
+    private final BatchEncoder batchEncoder;
+    private final EncodingMetrics metrics;
+    private final CodecRegistry codecRegistry;
+    private final CodecSampler codecSampler;
+    private final EncodingScheduler scheduler;
+    private final int sliceSize;
+
+    public LengthEncodingService() {
+        this(new EncodingProperties());
+    }
+
+    public LengthEncodingService(EncodingProperties properties) {
+        this(properties, (MeterRegistry) null);
+    }
+
+    @Autowired
+    public LengthEncodingService(EncodingProperties properties, ObjectProvider<MeterRegistry> meterRegistry,
+                                 ObjectProvider<CodecRegistry> codecRegistry) {
+        this(properties, meterRegistry.getIfAvailable(), codecRegistry.getIfAvailable(CodecRegistry::withDefaults));
+    }
+
+    public LengthEncodingService(EncodingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, CodecRegistry.withDefaults());
+    }
+
+    /**
+     * @param meterRegistry registry the encode metrics go to, or {@code null} to record none
+     *                      (JFR events are still emitted)
+     * @param codecRegistry codecs {@link #encodeAdaptive(CharSequence)} output can name
+     */
+    public LengthEncodingService(EncodingProperties properties, MeterRegistry meterRegistry,
+                                 CodecRegistry codecRegistry) {
+        EncodingProperties.Parallel parallel = properties.getParallel();
+        this.runScanner = RunScanner.create(properties.isVectorized());
+        this.parallelEncoder = parallel.isEnabled()
+                ? new ParallelEncoder(ForkJoinPool.commonPool(), parallel.getChunkSize(), runScanner)
+                : null;
+        this.parallelThreshold = parallel.getThreshold();
+        EncodingProperties.Pool pool = properties.getPool();
+        this.bufferPool = pool.isEnabled()
+                ? new EncodingBufferPool(pool.getMaxBuffers(), pool.getBufferLength())
+                : null;
+        this.batchEncoder = new BatchEncoder(parallel.isEnabled() ? ForkJoinPool.commonPool() : null,
+                parallel.getBatchSliceSize(), runScanner, bufferPool);
+        EncodingProperties.Metrics metricsProperties = properties.getMetrics();
+        this.metrics = new EncodingMetrics(metricsProperties.isEnabled() ? meterRegistry : null,
+                metricsProperties.getSampleRate(), metricsProperties.getLargeEncodeThreshold());
+        this.codecRegistry = codecRegistry;
+        EncodingProperties.Sampler sampler = properties.getSampler();
+        this.codecSampler = new CodecSampler(sampler.getWindows(), sampler.getWindowSize());
+        EncodingProperties.Async async = properties.getAsync();
+        this.scheduler = new EncodingScheduler(async);
+        this.sliceSize = Math.max(1, async.getSliceSize());
+    }
 
     @Override
     public String encode(char[] input) {
+        return encode(input, EncodingFormat.CLASSIC);
+    }
+
+    @Override
+    public String encode(String input) {
+        return encode(input, EncodingFormat.CLASSIC);
+    }
+
+    @Override
+    public String encode(char[] input, EncodingFormat format) {
         validateInput(input);
+        validateFormat(format);
         
         if (input.length == 0) {
             return "";
         }
-        
-        return performEncoding(input);
+
+        EncodingMetrics.Observation observation = metrics.start(EncodingMetrics.Api.SINGLE, format, input.length);
+        String result = performEncoding(input, format);
+        if (observation != null) {
+            observation.stop(input.length, result.length(), () -> countRuns(input));
+        }
+        return result;
     }
 
     @Override
-    public String encode(String input) {
+    public String encode(String input, EncodingFormat format) {
+        return encode((CharSequence) input, format);
+    }
+
+    @Override
+    public String encode(CharSequence input, EncodingFormat format) {
+        validateInput(input);
+        validateFormat(format);
+
+        int length = input.length();
+        if (length == 0) {
+            return "";
+        }
+
+        EncodingMetrics.Observation observation = metrics.start(EncodingMetrics.Api.SINGLE, format, length);
+        String result;
+        if (parallelEncoder != null && length >= parallelThreshold) {
+            char[] chars = new char[length];
+            copyChars(input, 0, length, chars);
+            result = parallelEncoder.encode(chars, format);
+        } else {
+            result = encodeWindowed(input, format);
+        }
+        if (observation != null) {
+            observation.stop(length, result.length(), () -> countRuns(input));
+        }
+        return result;
+    }
+
+    @Override
+    public String encode(byte[] input, EncodingFormat format) {
+        validateInput(input);
+        validateFormat(format);
+
+        EncodingMetrics.Observation observation = metrics.start(EncodingMetrics.Api.SINGLE, format, input.length);
+        String result = encodeLatin1(input, 0, input.length, format);
+        if (observation != null) {
+            observation.stop(input.length, result.length(), () -> countRuns(input));
+        }
+        return result;
+    }
+
+    @Override
+    public String encode(ByteBuffer input, EncodingFormat format) {
         validateInput(input);
-        return encode(input.toCharArray());
+        validateFormat(format);
+
+        int length = input.remaining();
+        EncodingMetrics.Observation observation = metrics.start(EncodingMetrics.Api.SINGLE, format, length);
+        String result;
+        if (input.hasArray()) {
+            int offset = input.arrayOffset();
+            result = encodeLatin1(input.array(), offset + input.position(), offset + input.limit(), format);
+        } else {
+            result = encodeLatin1(input, input.position(), input.limit(), format);
+        }
+        if (observation != null) {
+            observation.stop(length, result.length(), () -> countRuns(input));
+        }
+        return result;
+    }
+
+    @Override
+    public void encode(Reader input, Appendable output) throws IOException {
+        encode(input, output, EncodingFormat.CLASSIC);
+    }
+
+    @Override
+    public void encode(Reader input, Appendable output, EncodingFormat format) throws IOException {
+        validateInput(input);
+        validateOutput(output);
+        validateFormat(format);
+
+        int bufferSize = EncodingConfig.STREAM_BUFFER_SIZE.getValue();
+        char[] buffer = new char[bufferSize];
+        StringBuilder pending = new StringBuilder(bufferSize);
+
+        EncodingMetrics.Observation observation = metrics.start(EncodingMetrics.Api.STREAM, format, EncodingMetrics.UNKNOWN);
+        PendingRun pendingRun = new PendingRun(metrics);
+        long consumed = 0;
+        long produced = 0;
+        int read;
+
+        while ((read = input.read(buffer)) != -1) {
+            consumed += read;
+            observation = metrics.reached(observation, EncodingMetrics.Api.STREAM, format, consumed);
+            pendingRun.append(buffer, read, pending, runScanner, format);
+
+            if (pending.length() >= bufferSize) {
+                produced += pending.length();
+                output.append(pending);
+                pending.setLength(0);
+            }
+        }
+
+        pendingRun.flush(pending, format);
+        produced += pending.length();
+        output.append(pending);
+
+        if (observation != null) {
+            observation.stop(consumed, produced, null);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> encodeAsync(CharSequence input, EncodingFormat format) {
+        validateInput(input);
+        validateFormat(format);
+
+        int length = input.length();
+        // Admitted by the input plus the largest output it can produce, so in-flight bytes bound the heap.
+        long bytes = (long) length * Character.BYTES * (1 + maxCharsPerInputChar(format));
+        return scheduler.submit(length, bytes, cancelled -> {
+            if (length == 0) {
+                return "";
+            }
+            EncodingMetrics.Observation observation = metrics.start(EncodingMetrics.Api.ASYNC, format, length);
+            String result = encodeWindowed(input, format, cancelled);
+            if (observation != null) {
+                observation.stop(length, result.length(), () -> countRuns(input));
+            }
+            return result;
+        }, () -> new SlicedEncode(input, format));
+    }
+
+    /**
+     * Shuts down the {@link #encodeAsync} pools. Queued encodes fail with a
+     * {@link java.util.concurrent.RejectedExecutionException}, as do later calls; running ones
+     * finish.
+     */
+    @Override
+    public void close() {
+        scheduler.close();
+    }
+
+    @Override
+    public EncodedText encodeText(CharSequence input) {
+        validateInput(input);
+
+        int length = input.length();
+        EncodedText.Builder builder = new EncodedText.Builder();
+        char[] window = new char[Math.min(length, EncodingConfig.STREAM_BUFFER_SIZE.getValue())];
+
+        for (int start = 0; start < length; start += window.length) {
+            int end = Math.min(length, start + window.length);
+            copyChars(input, start, end, window);
+            int position = 0;
+            while (position < end - start) {
+                int runEnd = runScanner.runEnd(window, position, end - start);
+                builder.append(window[position], runEnd - position);
+                position = runEnd;
+            }
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public String decode(String encoded, EncodingFormat format) {
+        validateInput(encoded);
+        validateFormat(format);
+        return LengthDecoder.decode(encoded, format);
+    }
+
+    @Override
+    public char[] decode(char[] encoded, EncodingFormat format) {
+        validateInput(encoded);
+        validateFormat(format);
+        return LengthDecoder.decode(encoded, format);
+    }
+
+    @Override
+    public void decode(Reader input, Appendable output, EncodingFormat format) throws IOException {
+        validateInput(input);
+        validateOutput(output);
+        validateFormat(format);
+        LengthDecoder.decode(input, output, format);
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> inputs, EncodingFormat format) {
+        validateInput(inputs);
+        validateFormat(format);
+
+        String[] output = inputs.toArray(new String[0]);
+        encodeBatch(output, output, format);
+        return Collections.unmodifiableList(Arrays.asList(output));
+    }
+
+    @Override
+    public void encodeAll(String[] inputs, String[] output, EncodingFormat format) {
+        validateInput(inputs);
+        validateOutput(output);
+        validateFormat(format);
+        if (output.length != inputs.length) {
+            throw new IllegalArgumentException(ValidationError.OUTPUT_LENGTH_MISMATCH.getMessage());
+        }
+
+        encodeBatch(inputs, output, format);
+    }
+
+    private void encodeBatch(String[] inputs, String[] output, EncodingFormat format) {
+        // Summed up front because output may be the inputs array itself.
+        long inputChars = totalLength(inputs);
+        EncodingMetrics.Observation observation = metrics.start(EncodingMetrics.Api.BATCH, format, inputChars);
+        batchEncoder.encode(inputs, output, format);
+        if (observation != null) {
+            observation.stop(inputChars, totalLength(output), null);
+        }
+    }
+
+    @Override
+    public int encodedLength(char[] input, int offset, int length, EncodingFormat format) {
+        validateInput(input);
+        validateFormat(format);
+        Objects.checkFromIndexSize(offset, length, input.length);
+        return computeEncodedLength(input, offset, offset + length, format);
+    }
+
+    @Override
+    public int encodeInto(char[] input, int offset, int length, char[] output, int outputOffset, EncodingFormat format) {
+        validateInput(input);
+        validateOutput(output);
+        validateFormat(format);
+        Objects.checkFromIndexSize(offset, length, input.length);
+        Objects.checkIndex(outputOffset, output.length + 1);
+        return writeRuns(runScanner, input, offset, offset + length, output, outputOffset, format) - outputOffset;
+    }
+
+    @Override
+    public byte[] encodeBinary(CharSequence input, RunLengthCodec codec) {
+        validateInput(input);
+        validateCodec(codec);
+        return codec.encode(input);
+    }
+
+    @Override
+    public int encodeBinary(CharSequence input, ByteBuffer output, RunLengthCodec codec) {
+        validateInput(input);
+        validateOutput(output);
+        validateCodec(codec);
+        return codec.encode(input, output);
+    }
+
+    @Override
+    public String decodeBinary(byte[] encoded, RunLengthCodec codec) {
+        validateInput(encoded);
+        validateCodec(codec);
+        return codec.decode(encoded);
+    }
+
+    @Override
+    public String decodeBinary(ByteBuffer encoded, RunLengthCodec codec) {
+        validateInput(encoded);
+        validateCodec(codec);
+        return codec.decode(encoded);
+    }
+
+    @Override
+    public byte[] encodeAdaptive(CharSequence input) {
+        validateInput(input);
+
+        int id = codecSampler.choose(input);
+        RunLengthCodec codec = codecRegistry.codec(id);
+        int length = codec.encodedLength(input);
+        byte[] result = new byte[1 + length];
+        result[0] = (byte) id;
+        codec.encode(input, ByteBuffer.wrap(result, 1, length));
+        return result;
+    }
+
+    @Override
+    public String decodeAdaptive(byte[] encoded) {
+        validateInput(encoded);
+        if (encoded.length == 0) {
+            throw new IllegalArgumentException(ValidationError.INVALID_FORMAT.getMessage());
+        }
+        return codecRegistry.codec(encoded[0] & 0xFF).decode(ByteBuffer.wrap(encoded, 1, encoded.length - 1));
+    }
+
+    private long countRuns(char[] input) {
+        long runs = 0;
+        for (int position = 0; position < input.length; position = runScanner.runEnd(input, position, input.length)) {
+            runs++;
+        }
+        return runs;
+    }
+
+    private long countRuns(byte[] input) {
+        long runs = 0;
+        for (int position = 0; position < input.length; position = runScanner.runEnd(input, position, input.length)) {
+            runs++;
+        }
+        return runs;
+    }
+
+    private long countRuns(ByteBuffer input) {
+        long runs = 0;
+        int limit = input.limit();
+        for (int position = input.position(); position < limit; position = runScanner.runEnd(input, position, limit)) {
+            runs++;
+        }
+        return runs;
+    }
+
+    private static long countRuns(CharSequence input) {
+        long runs = 0;
+        char previous = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char current = input.charAt(i);
+            if (i == 0 || current != previous) {
+                runs++;
+                previous = current;
+            }
+        }
+        return runs;
+    }
+
+    private static long totalLength(String[] values) {
+        long length = 0;
+        for (String value : values) {
+            if (value != null) {
+                length += value.length();
+            }
+        }
+        return length;
     }
 
     private void validateInput(Object input) {
@@ -54,34 +514,336 @@ public class LengthEncodingService implements LengthEncoding {
         }
     }
 
-    private String performEncoding(char[] input) {
-        StringBuilder result = new StringBuilder(input.length * EncodingConfig.INITIAL_CAPACITY_MULTIPLIER.getValue());
-        
-        char currentChar = input[0];
-        int count = 1;
-        
-        for (int i = 1; i < input.length; i++) {
-            char nextChar = input[i];
-            
-            if (nextChar == currentChar) {
-                if (count == EncodingConfig.MAX_CHAR_COUNT.getValue()) {
-                    appendEncodedPair(result, currentChar, count);
-                    count = 0;
-                }
-                count++;
-            } else {
-                appendEncodedPair(result, currentChar, count);
-                currentChar = nextChar;
-                count = 1;
+    private void validateOutput(Object output) {
+        if (output == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_OUTPUT.getMessage());
+        }
+    }
+
+    private void validateFormat(EncodingFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_FORMAT.getMessage());
+        }
+    }
+
+    private void validateCodec(RunLengthCodec codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_CODEC.getMessage());
+        }
+    }
+
+    private String performEncoding(char[] input, EncodingFormat format) {
+        if (parallelEncoder != null && input.length >= parallelThreshold) {
+            return parallelEncoder.encode(input, format);
+        }
+
+        long maxLength = (long) input.length * maxCharsPerInputChar(format);
+        if (bufferPool != null && maxLength <= bufferPool.bufferLength()) {
+            char[] scratch = bufferPool.acquire((int) maxLength);
+            try {
+                int length = writeRuns(runScanner, input, 0, input.length, scratch, 0, format);
+                return new String(scratch, 0, length);
+            } finally {
+                bufferPool.release(scratch);
             }
         }
-        
-        appendEncodedPair(result, currentChar, count);
-        
+
+        char[] result = new char[computeEncodedLength(input, 0, input.length, format)];
+        writeRuns(runScanner, input, 0, input.length, result, 0, format);
+        return new String(result);
+    }
+
+    private int computeEncodedLength(char[] input, int from, int to, EncodingFormat format) {
+        long length = 0;
+        int position = from;
+
+        while (position < to) {
+            int end = runScanner.runEnd(input, position, to);
+            length += runLength(input[position], end - position, format);
+            position = end;
+        }
+
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.ENCODED_LENGTH_OVERFLOW.getMessage());
+        }
+        return (int) length;
+    }
+
+    /**
+     * Writes the runs of {@code input[from, to)} into {@code output} starting at {@code position}
+     * and returns the position after the last written char.
+     */
+    static int writeRuns(RunScanner runScanner, char[] input, int from, int to, char[] output, int position, EncodingFormat format) {
+        int maxCount = EncodingConfig.MAX_CHAR_COUNT.getValue();
+        int current = from;
+
+        while (current < to) {
+            int end = runScanner.runEnd(input, current, to);
+            char character = input[current];
+            int count = end - current;
+
+            // Array runs are at most Integer.MAX_VALUE long, the MAX_CHAR_COUNT, so none is counted as a split.
+            while (count > maxCount) {
+                position = writePair(output, position, character, maxCount, format);
+                count -= maxCount;
+            }
+            position = writePair(output, position, character, count, format);
+            current = end;
+        }
+
+        return position;
+    }
+
+    /**
+     * Returns the initial capacity of a builder collecting the output for {@code inputLength}
+     * chars. Long runs make the output a small fraction of the input, so the builder starts at
+     * no more than {@link EncodingConfig#MAX_INITIAL_OUTPUT_CAPACITY} chars and grows as needed;
+     * the estimate is computed in {@code long} and cannot overflow.
+     */
+    static int initialOutputCapacity(long inputLength) {
+        return (int) Math.min(inputLength * EncodingConfig.INITIAL_CAPACITY_MULTIPLIER.getValue(),
+                EncodingConfig.MAX_INITIAL_OUTPUT_CAPACITY.getValue()) + 16;
+    }
+
+    static int maxCharsPerInputChar(EncodingFormat format) {
+        return format == EncodingFormat.ESCAPED ? 3 : EncodingConfig.INITIAL_CAPACITY_MULTIPLIER.getValue();
+    }
+
+    private static long runLength(char character, long count, EncodingFormat format) {
+        int maxCount = EncodingConfig.MAX_CHAR_COUNT.getValue();
+        long fullPairs = (count - 1) / maxCount;
+        long remainder = count - fullPairs * maxCount;
+        return fullPairs * pairLength(character, maxCount, format) + pairLength(character, (int) remainder, format);
+    }
+
+    private static int pairLength(char character, int count, EncodingFormat format) {
+        return (format.requiresEscape(character) ? 2 : 1) + digitCount(count);
+    }
+
+    private static int writePair(char[] output, int position, char character, int count, EncodingFormat format) {
+        boolean escape = format.requiresEscape(character);
+        int end = position + (escape ? 2 : 1) + digitCount(count);
+        if (end > output.length) {
+            throw new IllegalArgumentException(ValidationError.OUTPUT_TOO_SMALL.getMessage());
+        }
+
+        if (escape) {
+            output[position++] = EncodingFormat.ESCAPE;
+        }
+        output[position] = character;
+
+        for (int i = end - 1; i > position; i--) {
+            output[i] = (char) ('0' + count % 10);
+            count /= 10;
+        }
+        return end;
+    }
+
+    private static int digitCount(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Encodes a {@link CharSequence} through a small reusable window instead of copying it
+     * whole, so the only full-size allocation is the result.
+     */
+    private String encodeWindowed(CharSequence input, EncodingFormat format) {
+        return encodeWindowed(input, format, NEVER_CANCELLED);
+    }
+
+    /**
+     * @param cancelled polled once per window; when it turns true the encode is abandoned
+     *                  with a {@link CancellationException}
+     */
+    private String encodeWindowed(CharSequence input, EncodingFormat format, BooleanSupplier cancelled) {
+        int length = input.length();
+        StringBuilder result = new StringBuilder(initialOutputCapacity(length));
+        char[] window = new char[Math.min(length, EncodingConfig.STREAM_BUFFER_SIZE.getValue())];
+        PendingRun pendingRun = new PendingRun(metrics);
+
+        for (int start = 0; start < length; start += window.length) {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            int end = Math.min(length, start + window.length);
+            copyChars(input, start, end, window);
+            pendingRun.append(window, end - start, result, runScanner, format);
+        }
+
+        pendingRun.flush(result, format);
+        return result.toString();
+    }
+
+    private static void copyChars(CharSequence input, int from, int to, char[] target) {
+        if (input instanceof String string) {
+            string.getChars(from, to, target, 0);
+        } else if (input instanceof StringBuilder builder) {
+            builder.getChars(from, to, target, 0);
+        } else if (input instanceof StringBuffer buffer) {
+            buffer.getChars(from, to, target, 0);
+        } else if (input instanceof CharBuffer buffer) {
+            buffer.get(buffer.position() + from, target, 0, to - from);
+        } else {
+            for (int i = from; i < to; i++) {
+                target[i - from] = input.charAt(i);
+            }
+        }
+    }
+
+    private String encodeLatin1(byte[] input, int from, int to, EncodingFormat format) {
+        StringBuilder result = new StringBuilder(initialOutputCapacity(to - from));
+        int position = from;
+
+        while (position < to) {
+            int end = runScanner.runEnd(input, position, to);
+            appendRun(result, latin1(input[position]), end - position, format);
+            position = end;
+        }
+
         return result.toString();
     }
 
-    private void appendEncodedPair(StringBuilder result, char character, int count) {
+    private String encodeLatin1(ByteBuffer input, int from, int to, EncodingFormat format) {
+        StringBuilder result = new StringBuilder(initialOutputCapacity(to - from));
+        int position = from;
+
+        while (position < to) {
+            int end = runScanner.runEnd(input, position, to);
+            appendRun(result, latin1(input.get(position)), end - position, format);
+            position = end;
+        }
+
+        return result.toString();
+    }
+
+    private static char latin1(byte value) {
+        return (char) (value & 0xFF);
+    }
+
+    /**
+     * Appends a run of any length, splitting it into pairs of at most
+     * {@link EncodingConfig#MAX_CHAR_COUNT} chars.
+     *
+     * @return the number of pairs split off, for {@link EncodingMetrics#recordSplits}
+     */
+    static int appendRun(StringBuilder result, char character, long count, EncodingFormat format) {
+        int maxCount = EncodingConfig.MAX_CHAR_COUNT.getValue();
+        int splits = 0;
+        while (count > maxCount) {
+            appendEncodedPair(result, character, maxCount, format);
+            count -= maxCount;
+            splits++;
+        }
+        appendEncodedPair(result, character, (int) count, format);
+        return splits;
+    }
+
+    static void appendEncodedPair(StringBuilder result, char character, int count, EncodingFormat format) {
+        if (format.requiresEscape(character)) {
+            result.append(EncodingFormat.ESCAPE);
+        }
         result.append(character).append(count);
     }
+
+    /**
+     * Large-lane encode of {@link #encodeAsync(CharSequence, EncodingFormat)}: the windowed
+     * encode, suspended after every {@code sliceSize} chars with its output and pending run
+     * kept for the next slice.
+     */
+    private final class SlicedEncode implements AsyncEncoder.Job<String> {
+
+        private final CharSequence input;
+        private final EncodingFormat format;
+        private final int length;
+        private final char[] window;
+        private final PendingRun pendingRun = new PendingRun(metrics);
+        private StringBuilder result;
+        private EncodingMetrics.Observation observation;
+        private int position;
+
+        SlicedEncode(CharSequence input, EncodingFormat format) {
+            this.input = input;
+            this.format = format;
+            this.length = input.length();
+            this.window = new char[Math.min(length, EncodingConfig.STREAM_BUFFER_SIZE.getValue())];
+        }
+
+        @Override
+        public boolean runSlice(BooleanSupplier cancelled) {
+            if (result == null) {
+                observation = metrics.start(EncodingMetrics.Api.ASYNC, format, length);
+                result = new StringBuilder(initialOutputCapacity(length));
+            }
+
+            int sliceEnd = (int) Math.min(length, (long) position + sliceSize);
+            while (position < sliceEnd) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException();
+                }
+                int end = Math.min(sliceEnd, position + window.length);
+                copyChars(input, position, end, window);
+                pendingRun.append(window, end - position, result, runScanner, format);
+                position = end;
+            }
+            if (position < length) {
+                return false;
+            }
+
+            pendingRun.flush(result, format);
+            return true;
+        }
+
+        @Override
+        public String result() {
+            String encoded = result.toString();
+            if (observation != null) {
+                observation.stop(length, encoded.length(), () -> countRuns(input));
+            }
+            return encoded;
+        }
+    }
+
+    /**
+     * Run carried over from one window of input to the next, so windowed and streamed inputs
+     * are encoded exactly like a single {@code char[]}.
+     */
+    private static final class PendingRun {
+
+        private final EncodingMetrics metrics;
+        private char symbol;
+        private long count;
+
+        PendingRun(EncodingMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        void append(char[] window, int length, StringBuilder result, RunScanner runScanner, EncodingFormat format) {
+            int position = 0;
+
+            while (position < length) {
+                int end = runScanner.runEnd(window, position, length);
+
+                if (count > 0 && window[position] == symbol) {
+                    count += end - position;
+                } else {
+                    flush(result, format);
+                    symbol = window[position];
+                    count = end - position;
+                }
+                position = end;
+            }
+        }
+
+        void flush(StringBuilder result, EncodingFormat format) {
+            if (count > 0) {
+                metrics.recordSplits(appendRun(result, symbol, count, format));
+                count = 0;
+            }
+        }
+    }
 }
@@ -0,0 +1,200 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Encodes large inputs by splitting them into chunks and encoding the chunks on a
+ * {@link ForkJoinPool}.
+ *
+ * <p>A chunk boundary can fall in the middle of a run, so every chunk reports its first and
+ * last run separately from the encoded runs in between. Merging two neighbouring segments joins
+ * the left segment's last run with the right segment's first run when they carry the same
+ * symbol, which makes the stitched output identical to the sequential encoding, including
+ * the {@link EncodingConfig#MAX_CHAR_COUNT} splits of runs that span several chunks.
+ */
+final class ParallelEncoder {
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final RunScanner runScanner;
+
+    ParallelEncoder(ForkJoinPool pool, int chunkSize, RunScanner runScanner) {
+        this.pool = pool;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.runScanner = runScanner;
+    }
+
+    String encode(char[] input, EncodingFormat format) {
+        Segment segment = pool.invoke(new ChunkTask(input, 0, input.length, format, chunkSize, runScanner));
+        return segment.toEncodedString(format);
+    }
+
+    private static final class ChunkTask extends RecursiveTask<Segment> {
+
+        private final char[] input;
+        private final int from;
+        private final int to;
+        private final EncodingFormat format;
+        private final int chunkSize;
+        private final RunScanner runScanner;
+
+        ChunkTask(char[] input, int from, int to, EncodingFormat format, int chunkSize, RunScanner runScanner) {
+            this.input = input;
+            this.from = from;
+            this.to = to;
+            this.format = format;
+            this.chunkSize = chunkSize;
+            this.runScanner = runScanner;
+        }
+
+        @Override
+        protected Segment compute() {
+            if (to - from <= chunkSize) {
+                return Segment.encode(input, from, to, format, runScanner);
+            }
+
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(input, from, middle, format, chunkSize, runScanner);
+            ChunkTask right = new ChunkTask(input, middle, to, format, chunkSize, runScanner);
+            right.fork();
+            Segment leftSegment = left.compute();
+            return leftSegment.merge(right.join(), format);
+        }
+    }
+
+    /**
+     * Encoded form of a non-empty slice: its first run, its last run and the encoded text of
+     * every run strictly between them. A slice made of one run has {@code singleRun} set and
+     * only the first run is meaningful.
+     */
+    private static final class Segment {
+
+        private char firstSymbol;
+        private long firstCount;
+        private char lastSymbol;
+        private long lastCount;
+        private boolean singleRun;
+        private List<CharSequence> body = new ArrayList<>();
+
+        static Segment encode(char[] input, int from, int to, EncodingFormat format, RunScanner runScanner) {
+            Segment segment = new Segment();
+
+            int firstEnd = runScanner.runEnd(input, from, to);
+            segment.firstSymbol = input[from];
+            segment.firstCount = firstEnd - from;
+
+            if (firstEnd == to) {
+                segment.singleRun = true;
+                return segment;
+            }
+
+            int lastStart = to - 1;
+            while (input[lastStart - 1] == input[to - 1]) {
+                lastStart--;
+            }
+            segment.lastSymbol = input[to - 1];
+            segment.lastCount = to - lastStart;
+
+            if (firstEnd < lastStart) {
+                StringBuilder body = new StringBuilder((lastStart - firstEnd) * EncodingConfig.INITIAL_CAPACITY_MULTIPLIER.getValue());
+                int position = firstEnd;
+
+                while (position < lastStart) {
+                    int end = runScanner.runEnd(input, position, lastStart);
+                    LengthEncodingService.appendRun(body, input[position], end - position, format);
+                    position = end;
+                }
+
+                segment.body.add(body);
+            }
+
+            return segment;
+        }
+
+        Segment merge(Segment right, EncodingFormat format) {
+            Segment merged = new Segment();
+            List<CharSequence> joint = new ArrayList<>(body.size() + right.body.size() + 2);
+            joint.addAll(body);
+
+            if (lastSymbol() == right.firstSymbol) {
+                char symbol = right.firstSymbol;
+                long count = lastCount() + right.firstCount;
+
+                if (singleRun && right.singleRun) {
+                    merged.singleRun = true;
+                } else if (singleRun) {
+                    merged.setLast(right.lastSymbol(), right.lastCount());
+                } else if (right.singleRun) {
+                    merged.setLast(symbol, count);
+                } else {
+                    joint.add(encodeRun(symbol, count, format));
+                    merged.setLast(right.lastSymbol, right.lastCount);
+                }
+
+                if (singleRun) {
+                    merged.firstSymbol = symbol;
+                    merged.firstCount = count;
+                } else {
+                    merged.firstSymbol = firstSymbol;
+                    merged.firstCount = firstCount;
+                }
+            } else {
+                if (!singleRun) {
+                    joint.add(encodeRun(lastSymbol, lastCount, format));
+                }
+                if (!right.singleRun) {
+                    joint.add(encodeRun(right.firstSymbol, right.firstCount, format));
+                }
+                merged.firstSymbol = firstSymbol;
+                merged.firstCount = firstCount;
+                merged.setLast(right.lastSymbol(), right.lastCount());
+            }
+
+            joint.addAll(right.body);
+            merged.body = joint;
+            return merged;
+        }
+
+        String toEncodedString(EncodingFormat format) {
+            CharSequence first = encodeRun(firstSymbol, firstCount, format);
+            CharSequence last = singleRun ? "" : encodeRun(lastSymbol, lastCount, format);
+
+            long length = first.length() + last.length();
+            for (CharSequence part : body) {
+                length += part.length();
+            }
+
+            StringBuilder result = new StringBuilder(Math.toIntExact(length));
+            result.append(first);
+            for (CharSequence part : body) {
+                result.append(part);
+            }
+            return result.append(last).toString();
+        }
+
+        private char lastSymbol() {
+            return singleRun ? firstSymbol : lastSymbol;
+        }
+
+        private long lastCount() {
+            return singleRun ? firstCount : lastCount;
+        }
+
+        private void setLast(char symbol, long count) {
+            lastSymbol = symbol;
+            lastCount = count;
+        }
+
+        private static CharSequence encodeRun(char symbol, long count, EncodingFormat format) {
+            StringBuilder result = new StringBuilder(24);
+            LengthEncodingService.appendRun(result, symbol, count, format);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+/**
+ * Forward-only cursor over the runs of an encoded value.
+ *
+ * <p>Each call to {@link #next()} parses one {@code symbol+count} pair and exposes it through
+ * {@link #symbol()} and {@link #count()}; malformed input is reported as
+ * {@link ValidationError#INVALID_FORMAT}. The cursor allocates nothing, so decoders can walk
+ * the same input twice (once to size the output, once to fill it) without materializing runs.
+ */
+final class RunCursor {
+
+    private final CharSequence encoded;
+    private final EncodingFormat format;
+    private final int end;
+
+    private int position;
+    private char symbol;
+    private int count;
+
+    RunCursor(CharSequence encoded, EncodingFormat format) {
+        this.encoded = encoded;
+        this.format = format;
+        this.end = encoded.length();
+    }
+
+    boolean next() {
+        if (position == end) {
+            return false;
+        }
+
+        char current = encoded.charAt(position++);
+        if (format == EncodingFormat.ESCAPED) {
+            if (current == EncodingFormat.ESCAPE) {
+                if (position == end) {
+                    throw invalidFormat();
+                }
+                current = encoded.charAt(position++);
+            } else if (EncodingFormat.isDigit(current)) {
+                throw invalidFormat();
+            }
+        }
+        symbol = current;
+        count = parseCount();
+        return true;
+    }
+
+    char symbol() {
+        return symbol;
+    }
+
+    int count() {
+        return count;
+    }
+
+    private int parseCount() {
+        int start = position;
+        long value = 0;
+
+        while (position < end) {
+            char digit = encoded.charAt(position);
+            if (!EncodingFormat.isDigit(digit)) {
+                break;
+            }
+            value = value * 10 + (digit - '0');
+            if (value > EncodingConfig.MAX_CHAR_COUNT.getValue()) {
+                throw invalidFormat();
+            }
+            position++;
+        }
+
+        if (position == start || value == 0) {
+            throw invalidFormat();
+        }
+        return (int) value;
+    }
+
+    private static IllegalArgumentException invalidFormat() {
+        return new IllegalArgumentException(ValidationError.INVALID_FORMAT.getMessage());
+    }
+}
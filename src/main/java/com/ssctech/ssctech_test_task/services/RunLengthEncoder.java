@@ -0,0 +1,112 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.util.Objects;
+
+/**
+ * Incremental encoder for data that arrives piece by piece, such as tailed logs or event
+ * streams.
+ *
+ * <p>Appended chars extend the trailing run in place when they continue it, so the encoded
+ * state is always current and each char is scanned once, however often the encoder is read.
+ * {@link #snapshot()} returns the runs so far as an {@link EncodedText} in {@code O(1)}; the
+ * snapshot shares the encoder's run table and stays valid while appending continues.
+ * {@link #finish()} returns exactly what {@link LengthEncoding#encode(String, EncodingFormat)}
+ * returns for everything appended, including the {@code MAX_CHAR_COUNT} splits of long runs.
+ *
+ * <p>Instances are not thread-safe; snapshots are immutable and can be shared freely.
+ */
+public final class RunLengthEncoder {
+
+    private final EncodingFormat format;
+    private final EncodedText.Builder runs = new EncodedText.Builder();
+    private boolean finished;
+
+    public RunLengthEncoder() {
+        this(EncodingFormat.CLASSIC);
+    }
+
+    public RunLengthEncoder(EncodingFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_FORMAT.getMessage());
+        }
+        this.format = format;
+    }
+
+    public RunLengthEncoder append(char c) {
+        checkNotFinished();
+        runs.append(c, 1);
+        return this;
+    }
+
+    public RunLengthEncoder append(CharSequence input) {
+        if (input == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        checkNotFinished();
+
+        int length = input.length();
+        int position = 0;
+        while (position < length) {
+            char symbol = input.charAt(position);
+            int end = position + 1;
+            while (end < length && input.charAt(end) == symbol) {
+                end++;
+            }
+            runs.append(symbol, end - position);
+            position = end;
+        }
+        return this;
+    }
+
+    public RunLengthEncoder append(char[] input, int offset, int length) {
+        if (input == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        Objects.checkFromIndexSize(offset, length, input.length);
+        checkNotFinished();
+
+        int to = offset + length;
+        int position = offset;
+        while (position < to) {
+            int end = RunScanner.SCALAR.runEnd(input, position, to);
+            runs.append(input[position], end - position);
+            position = end;
+        }
+        return this;
+    }
+
+    /**
+     * Number of chars appended so far.
+     */
+    public long length() {
+        return runs.length();
+    }
+
+    public EncodingFormat format() {
+        return format;
+    }
+
+    /**
+     * Returns everything appended so far without copying the run table.
+     */
+    public EncodedText snapshot() {
+        return runs.snapshot();
+    }
+
+    /**
+     * Returns the encoding of everything appended and rejects further appends.
+     */
+    public String finish() {
+        finished = true;
+        return runs.snapshot().encode(format);
+    }
+
+    private void checkNotFinished() {
+        if (finished) {
+            throw new IllegalStateException(ValidationError.ENCODER_FINISHED.getMessage());
+        }
+    }
+}
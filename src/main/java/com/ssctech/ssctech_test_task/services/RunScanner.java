@@ -0,0 +1,64 @@
+package com.ssctech.ssctech_test_task.services;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Finds where runs end in a {@code char[]}, a Latin-1 {@code byte[]} or a {@link ByteBuffer}.
+ *
+ * <p>The scalar scanner compares one char per iteration. When the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, {@link #create(boolean)} can return a
+ * {@link VectorRunScanner} instead, which compares a whole vector of chars against the run
+ * symbol at once; without the module it quietly falls back to the scalar scanner.
+ */
+class RunScanner {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    static final RunScanner SCALAR = new RunScanner();
+
+    static RunScanner create(boolean vectorized) {
+        if (!vectorized || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            return new VectorRunScanner();
+        } catch (LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    /**
+     * Returns the index of the first char in {@code (from, to)} that differs from
+     * {@code input[from]}, or {@code to} if the run reaches the end of the range.
+     */
+    int runEnd(char[] input, int from, int to) {
+        char symbol = input[from];
+        int i = from + 1;
+        while (i < to && input[i] == symbol) {
+            i++;
+        }
+        return i;
+    }
+
+    int runEnd(byte[] input, int from, int to) {
+        byte symbol = input[from];
+        int i = from + 1;
+        while (i < to && input[i] == symbol) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Same as {@link #runEnd(byte[], int, int)} for buffers without an accessible array.
+     * Uses absolute gets, so the buffer position is never touched.
+     */
+    int runEnd(ByteBuffer input, int from, int to) {
+        byte symbol = input.get(from);
+        int i = from + 1;
+        while (i < to && input.get(i) == symbol) {
+            i++;
+        }
+        return i;
+    }
+}
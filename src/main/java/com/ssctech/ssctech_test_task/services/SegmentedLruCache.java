@@ -0,0 +1,165 @@
+package com.ssctech.ssctech_test_task.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Weight-bounded, lock-striped segmented LRU cache.
+ *
+ * <p>Each shard keeps a probation segment for entries seen once and a protected segment, at most
+ * {@value #PROTECTED_PERCENT}% of the shard's weight, for entries hit again since they were
+ * added. New entries go to probation, and eviction takes the least recently used probation entry
+ * first. A one-off scan over many distinct keys therefore only churns probation and cannot flush
+ * the frequently used entries. Shards are guarded by {@link ReentrantLock}s rather than
+ * {@code synchronized}, so a virtual thread waiting for a shard does not pin its carrier.
+ */
+final class SegmentedLruCache<K, V> {
+
+    private static final int PROTECTED_PERCENT = 80;
+
+    private final Shard[] shards;
+    private final long maximumWeight;
+    private final ToIntBiFunction<K, V> weigher;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param weigher weight of an entry, in the same unit as {@code maximumWeight}
+     */
+    @SuppressWarnings("unchecked")
+    SegmentedLruCache(int shardCount, long maximumWeight, ToIntBiFunction<K, V> weigher) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(shardCount, 1 << 16)) * 2 - 1);
+        this.shards = new SegmentedLruCache.Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(Math.max(1, maximumWeight / count));
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
+    V get(K key) {
+        V value = shardFor(key).get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Adds an entry unless the key is already present or the entry alone outweighs its shard.
+     */
+    void put(K key, V value) {
+        shardFor(key).put(key, value, weigher.applyAsInt(key, value));
+    }
+
+    CacheStats stats() {
+        long entries = 0;
+        long weight = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                entries += shard.probation.size() + shard.protectedEntries.size();
+                weight += shard.probationWeight + shard.protectedWeight;
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries, weight, maximumWeight);
+    }
+
+    private Shard shardFor(K key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    private final class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, V> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long capacity;
+        private final long protectedCapacity;
+        private long probationWeight;
+        private long protectedWeight;
+
+        Shard(long capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = capacity * PROTECTED_PERCENT / 100;
+        }
+
+        V get(K key) {
+            lock.lock();
+            try {
+                V value = protectedEntries.get(key);
+                if (value != null) {
+                    return value;
+                }
+
+                value = probation.remove(key);
+                if (value != null) {
+                    int weight = weigher.applyAsInt(key, value);
+                    probationWeight -= weight;
+                    protectedEntries.put(key, value);
+                    protectedWeight += weight;
+                    demoteOverflow();
+                }
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, V value, int weight) {
+            if (weight > capacity) {
+                return;
+            }
+
+            lock.lock();
+            try {
+                if (probation.containsKey(key) || protectedEntries.containsKey(key)) {
+                    return;
+                }
+                probation.put(key, value);
+                probationWeight += weight;
+                evictOverflow();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void demoteOverflow() {
+            Iterator<Map.Entry<K, V>> eldest = protectedEntries.entrySet().iterator();
+            while (protectedWeight > protectedCapacity && eldest.hasNext()) {
+                Map.Entry<K, V> entry = eldest.next();
+                int weight = weigher.applyAsInt(entry.getKey(), entry.getValue());
+                eldest.remove();
+                protectedWeight -= weight;
+                probation.put(entry.getKey(), entry.getValue());
+                probationWeight += weight;
+            }
+        }
+
+        private void evictOverflow() {
+            while (probationWeight + protectedWeight > capacity) {
+                boolean fromProbation = !probation.isEmpty();
+                Iterator<Map.Entry<K, V>> eldest = (fromProbation ? probation : protectedEntries).entrySet().iterator();
+                Map.Entry<K, V> entry = eldest.next();
+                int weight = weigher.applyAsInt(entry.getKey(), entry.getValue());
+                eldest.remove();
+                if (fromProbation) {
+                    probationWeight -= weight;
+                } else {
+                    protectedWeight -= weight;
+                }
+                evictions.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The textual {@code char+count} encoding as a {@link RunLengthCodec}: the bytes are the UTF-8
+ * form of {@link LengthEncoding#encode(String, EncodingFormat)} in {@link #format()}, i.e.
+ * exactly what {@code POST /api/encode} returns.
+ *
+ * <p>Strict UTF-8 cannot hold unpaired surrogates, so inputs containing them are rejected as
+ * {@link ValidationError#UNMAPPABLE_CHARACTER}, the way {@code LATIN1} codecs reject chars
+ * above {@code U+00FF}.
+ */
+public final class TextRunLengthCodec implements RunLengthCodec {
+
+    public static final TextRunLengthCodec ESCAPED = new TextRunLengthCodec(EncodingFormat.ESCAPED);
+
+    private final EncodingFormat format;
+
+    private TextRunLengthCodec(EncodingFormat format) {
+        this.format = format;
+    }
+
+    public EncodingFormat format() {
+        return format;
+    }
+
+    @Override
+    public byte[] encode(CharSequence input) {
+        ByteBuffer encoded = toUtf8(encodeText(input));
+        byte[] result = new byte[encoded.remaining()];
+        encoded.get(result);
+        return result;
+    }
+
+    @Override
+    public int encode(CharSequence input, ByteBuffer output) {
+        ByteBuffer encoded = toUtf8(encodeText(input));
+        int length = encoded.remaining();
+        if (output.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        output.put(encoded);
+        return length;
+    }
+
+    @Override
+    public int encodedLength(CharSequence input) {
+        return toUtf8(encodeText(input)).remaining();
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    @Override
+    public String decode(ByteBuffer encoded) {
+        try {
+            CharBuffer text = StandardCharsets.UTF_8.newDecoder().decode(encoded);
+            return LengthDecoder.decode(text, format);
+        } catch (CharacterCodingException e) {
+            throw new IllegalArgumentException(ValidationError.INVALID_FORMAT.getMessage(), e);
+        }
+    }
+
+    private String encodeText(CharSequence input) {
+        StringBuilder result = new StringBuilder(input.length() * 2);
+        int position = 0;
+        int end = input.length();
+
+        while (position < end) {
+            char symbol = input.charAt(position);
+            int runEnd = position + 1;
+            while (runEnd < end && input.charAt(runEnd) == symbol) {
+                runEnd++;
+            }
+            LengthEncodingService.appendRun(result, symbol, runEnd - position, format);
+            position = runEnd;
+        }
+
+        return result.toString();
+    }
+
+    private static ByteBuffer toUtf8(String text) {
+        try {
+            return StandardCharsets.UTF_8.newEncoder().encode(CharBuffer.wrap(text));
+        } catch (CharacterCodingException e) {
+            throw new IllegalArgumentException(ValidationError.UNMAPPABLE_CHARACTER.getMessage(), e);
+        }
+    }
+}
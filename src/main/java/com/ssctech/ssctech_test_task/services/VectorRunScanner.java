@@ -0,0 +1,81 @@
+package com.ssctech.ssctech_test_task.services;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RunScanner} that compares {@link ShortVector#SPECIES_PREFERRED} lanes (8 to 32 chars,
+ * depending on the CPU) against a broadcast of the run symbol per iteration.
+ *
+ * <p>Most runs in text are short, and setting up a vector comparison costs more than a few
+ * scalar ones, so the first {@link #SCALAR_PROBE} chars of every run are checked one by one
+ * and only runs that survive the probe switch to the vector loop. Latin-1 input is scanned
+ * the same way with {@link ByteVector#SPECIES_PREFERRED}, twice as many lanes per step.
+ */
+final class VectorRunScanner extends RunScanner {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int SCALAR_PROBE = 8;
+
+    @Override
+    int runEnd(char[] input, int from, int to) {
+        char symbol = input[from];
+        int i = from + 1;
+
+        int probeEnd = Math.min(to, i + SCALAR_PROBE);
+        while (i < probeEnd) {
+            if (input[i] != symbol) {
+                return i;
+            }
+            i++;
+        }
+
+        ShortVector target = ShortVector.broadcast(SPECIES, (short) symbol);
+        int vectorEnd = i + SPECIES.loopBound(to - i);
+        for (; i < vectorEnd; i += SPECIES.length()) {
+            VectorMask<Short> mismatch = ShortVector.fromCharArray(SPECIES, input, i)
+                    .compare(VectorOperators.NE, target);
+            if (mismatch.anyTrue()) {
+                return i + mismatch.firstTrue();
+            }
+        }
+
+        while (i < to && input[i] == symbol) {
+            i++;
+        }
+        return i;
+    }
+
+    @Override
+    int runEnd(byte[] input, int from, int to) {
+        byte symbol = input[from];
+        int i = from + 1;
+
+        int probeEnd = Math.min(to, i + SCALAR_PROBE);
+        while (i < probeEnd) {
+            if (input[i] != symbol) {
+                return i;
+            }
+            i++;
+        }
+
+        ByteVector target = ByteVector.broadcast(BYTE_SPECIES, symbol);
+        int vectorEnd = i + BYTE_SPECIES.loopBound(to - i);
+        for (; i < vectorEnd; i += BYTE_SPECIES.length()) {
+            VectorMask<Byte> mismatch = ByteVector.fromArray(BYTE_SPECIES, input, i)
+                    .compare(VectorOperators.NE, target);
+            if (mismatch.anyTrue()) {
+                return i + mismatch.firstTrue();
+            }
+        }
+
+        while (i < to && input[i] == symbol) {
+            i++;
+        }
+        return i;
+    }
+}
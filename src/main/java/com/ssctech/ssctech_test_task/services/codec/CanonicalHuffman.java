@@ -0,0 +1,281 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Length-limited canonical Huffman codes over a dense alphabet {@code 0..n-1}.
+ *
+ * <p>Only code lengths are stored; codes are assigned canonically, shorter codes first and
+ * symbols in ascending order within a length, so encoder and decoder derive the same codes from
+ * the lengths. Codes are written most significant bit first. The decoder resolves codes of up
+ * to {@value #LOOKUP_BITS} bits with one table lookup and walks the canonical ranges for longer
+ * ones.
+ */
+final class CanonicalHuffman {
+
+    static final int LOOKUP_BITS = 10;
+
+    private final int[] lengths;
+    private final int[] codes;
+    private final int maxLength;
+
+    // Decoder state: symbols sorted by (length, symbol), the number of codes per length and the
+    // lookup table, whose entries are symbol << 5 | length, or 0 for codes longer than LOOKUP_BITS.
+    private final int[] sortedSymbols;
+    private final int[] countPerLength;
+    private final int[] lookup;
+
+    private CanonicalHuffman(int[] lengths) {
+        this.lengths = lengths;
+        this.maxLength = Arrays.stream(lengths).max().orElse(0);
+        this.countPerLength = new int[maxLength + 1];
+        for (int length : lengths) {
+            countPerLength[length]++;
+        }
+        countPerLength[0] = 0;
+
+        int[] nextCode = new int[maxLength + 2];
+        int[] offsets = new int[maxLength + 2];
+        for (int length = 1, code = 0; length <= maxLength; length++) {
+            code = (code + countPerLength[length - 1]) << 1;
+            nextCode[length] = code;
+            offsets[length + 1] = offsets[length] + countPerLength[length];
+        }
+
+        this.codes = new int[lengths.length];
+        this.sortedSymbols = new int[offsets[maxLength + 1]];
+        this.lookup = new int[1 << LOOKUP_BITS];
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            int length = lengths[symbol];
+            if (length == 0) {
+                continue;
+            }
+            int code = nextCode[length]++;
+            codes[symbol] = code;
+            sortedSymbols[offsets[length]++] = symbol;
+            if (length <= LOOKUP_BITS) {
+                int shift = LOOKUP_BITS - length;
+                Arrays.fill(lookup, code << shift, (code + 1) << shift, symbol << 5 | length);
+            }
+        }
+    }
+
+    /**
+     * Builds codes from symbol frequencies, limiting every code to {@code limit} bits. Symbols
+     * with frequency 0 get no code; a lone symbol gets a one-bit code.
+     */
+    static CanonicalHuffman fromFrequencies(long[] frequencies, int limit) {
+        long[] weights = frequencies.clone();
+        while (true) {
+            int[] lengths = lengths(weights);
+            if (Arrays.stream(lengths).max().orElse(0) <= limit) {
+                return new CanonicalHuffman(lengths);
+            }
+            // Flattening the distribution shortens the deepest codes; a few rounds always suffice
+            // because all weights reach 1 and the tree becomes balanced.
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] > 0) {
+                    weights[i] = (weights[i] + 1) >>> 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the codes from stored lengths.
+     *
+     * @throws IllegalArgumentException if the lengths exceed {@code limit} or oversubscribe the
+     *                                  code space
+     */
+    static CanonicalHuffman fromLengths(int[] lengths, int limit) {
+        long kraft = 0;
+        for (int length : lengths) {
+            if (length < 0 || length > limit) {
+                throw Varint.invalidFormat();
+            }
+            if (length > 0) {
+                kraft += 1L << (limit - length);
+            }
+        }
+        if (kraft > 1L << limit) {
+            throw Varint.invalidFormat();
+        }
+        return new CanonicalHuffman(lengths);
+    }
+
+    int length(int symbol) {
+        return lengths[symbol];
+    }
+
+    int code(int symbol) {
+        return codes[symbol];
+    }
+
+    /**
+     * Decodes one symbol from {@code reader}.
+     *
+     * @throws IllegalArgumentException if the bits match no code
+     */
+    int decode(BitReader reader) {
+        int entry = lookup[reader.peek(LOOKUP_BITS)];
+        if (entry != 0) {
+            reader.skip(entry & 0x1F);
+            return entry >>> 5;
+        }
+
+        int code = 0;
+        int first = 0;
+        int index = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            code |= reader.read(1);
+            int count = countPerLength[length];
+            if (code - first < count) {
+                return sortedSymbols[index + code - first];
+            }
+            index += count;
+            first = (first + count) << 1;
+            code <<= 1;
+        }
+        throw Varint.invalidFormat();
+    }
+
+    private static int[] lengths(long[] weights) {
+        int symbols = weights.length;
+        int[] lengths = new int[symbols];
+        int used = 0;
+        int last = -1;
+        for (int i = 0; i < symbols; i++) {
+            if (weights[i] > 0) {
+                used++;
+                last = i;
+            }
+        }
+        if (used <= 1) {
+            if (used == 1) {
+                lengths[last] = 1;
+            }
+            return lengths;
+        }
+
+        // Leaves are 0..symbols-1 and internal nodes follow; the queue orders by weight, then id.
+        long[] weight = Arrays.copyOf(weights, 2 * symbols);
+        int[] parent = new int[2 * symbols];
+        PriorityQueue<Integer> queue = new PriorityQueue<>(used,
+                (a, b) -> weight[a] != weight[b] ? Long.compare(weight[a], weight[b]) : Integer.compare(a, b));
+        for (int i = 0; i < symbols; i++) {
+            if (weights[i] > 0) {
+                queue.add(i);
+            }
+        }
+        int next = symbols;
+        while (queue.size() > 1) {
+            int a = queue.poll();
+            int b = queue.poll();
+            weight[next] = weight[a] + weight[b];
+            parent[a] = next;
+            parent[b] = next;
+            queue.add(next++);
+        }
+
+        int root = next - 1;
+        int[] depth = new int[2 * symbols];
+        for (int node = root - 1; node >= 0; node--) {
+            if (node >= symbols || weights[node] > 0) {
+                depth[node] = depth[parent[node]] + 1;
+            }
+        }
+        for (int i = 0; i < symbols; i++) {
+            lengths[i] = weights[i] > 0 ? depth[i] : 0;
+        }
+        return lengths;
+    }
+
+    /**
+     * Reads bits most significant first from a byte array. Reading past the end yields zero bits
+     * and is reported by {@link #overrun()}.
+     */
+    static final class BitReader {
+
+        private final byte[] input;
+        private int position;
+        private final int end;
+        private long buffer;
+        private int bits;
+        private int padding;
+
+        BitReader(byte[] input, int position, int end) {
+            this.input = input;
+            this.position = position;
+            this.end = end;
+        }
+
+        int peek(int count) {
+            fill();
+            return (int) (buffer >>> (bits - count)) & ((1 << count) - 1);
+        }
+
+        void skip(int count) {
+            bits -= count;
+        }
+
+        int read(int count) {
+            int value = peek(count);
+            bits -= count;
+            return value;
+        }
+
+        boolean overrun() {
+            return bits < padding * 8L;
+        }
+
+        private void fill() {
+            while (bits <= 56) {
+                int next;
+                if (position < end) {
+                    next = input[position++] & 0xFF;
+                } else {
+                    next = 0;
+                    padding++;
+                }
+                buffer = buffer << 8 | next;
+                bits += 8;
+            }
+        }
+    }
+
+    /**
+     * Writes bits most significant first into a byte array of exactly the right size.
+     */
+    static final class BitWriter {
+
+        private final byte[] output;
+        private int position;
+        private long buffer;
+        private int bits;
+
+        BitWriter(byte[] output, int position) {
+            this.output = output;
+            this.position = position;
+        }
+
+        /**
+         * Appends the low {@code count} bits of {@code value}; {@code count} is at most 32.
+         */
+        void write(int value, int count) {
+            buffer = buffer << count | (value & ((1L << count) - 1));
+            bits += count;
+            while (bits >= 8) {
+                bits -= 8;
+                output[position++] = (byte) (buffer >>> bits);
+            }
+        }
+
+        void flush() {
+            if (bits > 0) {
+                output[position++] = (byte) (buffer << (8 - bits));
+                bits = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Run-length codec with an entropy-coding second stage: the run symbols and the run lengths are
+ * each coded with their own canonical Huffman code, so frequent symbols and typical run lengths
+ * cost a few bits instead of whole bytes.
+ *
+ * <p>Run lengths below 16 are Huffman symbols of their own. Longer ones are coded as their bit
+ * length class followed by the bits below the leading one, as in DEFLATE distance codes.
+ * Layout:
+ *
+ * <pre>
+ * varint runCount
+ * varint symbolCount, then the distinct symbols ascending as varint deltas
+ * symbolCount bytes: symbol code lengths
+ * varint lengthTokenCount, then the length-token code lengths packed two per byte
+ * bit stream: per run, the symbol code, the length-token code and any extra bits
+ * </pre>
+ *
+ * <p>Like {@link VarintRunLengthCodec}, {@link #UTF8} runs over code points and keeps unpaired
+ * surrogates as they are, and {@link #LATIN1} rejects chars above {@code U+00FF}. Symbol codes
+ * are at most {@value #MAX_SYMBOL_CODE_LENGTH} bits and length-token codes at most
+ * {@value #MAX_TOKEN_CODE_LENGTH}.
+ */
+public final class HuffmanRunLengthCodec implements RunLengthCodec {
+
+    public static final HuffmanRunLengthCodec LATIN1 = new HuffmanRunLengthCodec(SymbolCharset.LATIN1);
+    public static final HuffmanRunLengthCodec UTF8 = new HuffmanRunLengthCodec(SymbolCharset.UTF8);
+
+    static final int MAX_SYMBOL_CODE_LENGTH = 24;
+    static final int MAX_TOKEN_CODE_LENGTH = 15;
+
+    private static final int DIRECT_LENGTHS = 16;
+    private static final int TOKEN_COUNT = DIRECT_LENGTHS + Integer.SIZE - 5;
+
+    private final SymbolCharset charset;
+
+    private HuffmanRunLengthCodec(SymbolCharset charset) {
+        this.charset = charset;
+    }
+
+    @Override
+    public byte[] encode(CharSequence input) {
+        return plan(input).write();
+    }
+
+    @Override
+    public int encode(CharSequence input, ByteBuffer output) {
+        Plan plan = plan(input);
+        if (output.remaining() < plan.length) {
+            throw new BufferOverflowException();
+        }
+        output.put(plan.write());
+        return plan.length;
+    }
+
+    @Override
+    public int encodedLength(CharSequence input) {
+        return plan(input).length;
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    @Override
+    public String decode(ByteBuffer encoded) {
+        // Bound every count by the bytes left before allocating for it: a run takes at least two
+        // bits, a symbol at least a delta byte and a code-length byte.
+        int runCount = readCount(encoded, encoded.remaining() * 4L);
+        int symbolCount = readCount(encoded, encoded.remaining() / 2);
+        int[] symbols = new int[symbolCount];
+        for (int i = 0, symbol = -1; i < symbolCount; i++) {
+            long next = symbol + Varint.readLong(encoded) + (i == 0 ? 1 : 0);
+            if (next <= symbol || next > (charset == SymbolCharset.UTF8 ? Character.MAX_CODE_POINT : 0xFF)) {
+                throw Varint.invalidFormat();
+            }
+            symbol = (int) next;
+            symbols[i] = symbol;
+        }
+        if (encoded.remaining() < symbolCount) {
+            throw Varint.invalidFormat();
+        }
+        int[] symbolLengths = new int[symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            symbolLengths[i] = encoded.get() & 0xFF;
+        }
+        int tokenCount = readCount(encoded, TOKEN_COUNT);
+        if (encoded.remaining() < (tokenCount + 1) / 2) {
+            throw Varint.invalidFormat();
+        }
+        int[] tokenLengths = new int[tokenCount];
+        for (int i = 0; i < tokenCount; i += 2) {
+            int packed = encoded.get() & 0xFF;
+            tokenLengths[i] = packed >>> 4;
+            if (i + 1 < tokenCount) {
+                tokenLengths[i + 1] = packed & 0x0F;
+            }
+        }
+        CanonicalHuffman symbolCode = CanonicalHuffman.fromLengths(symbolLengths, MAX_SYMBOL_CODE_LENGTH);
+        CanonicalHuffman tokenCode = CanonicalHuffman.fromLengths(tokenLengths, MAX_TOKEN_CODE_LENGTH);
+
+        byte[] bits = new byte[encoded.remaining()];
+        encoded.get(bits);
+        CanonicalHuffman.BitReader reader = new CanonicalHuffman.BitReader(bits, 0, bits.length);
+        StringBuilder result = new StringBuilder();
+        long length = 0;
+        for (int run = 0; run < runCount; run++) {
+            int symbol = symbols[symbolCode.decode(reader)];
+            int token = tokenCode.decode(reader);
+            int count = token < DIRECT_LENGTHS ? token : readLongRun(reader, token);
+            if (count == 0) {
+                throw Varint.invalidFormat();
+            }
+            length += (long) count * Character.charCount(symbol);
+            if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+                throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+            }
+            result.repeat(symbol, count);
+        }
+        if (reader.overrun()) {
+            throw Varint.invalidFormat();
+        }
+        return result.toString();
+    }
+
+    private static int readCount(ByteBuffer encoded, long max) {
+        long value = Varint.readLong(encoded);
+        if (value < 0 || value > Math.min(max, EncodingConfig.MAX_ARRAY_LENGTH.getValue())) {
+            throw Varint.invalidFormat();
+        }
+        return (int) value;
+    }
+
+    private static int token(int count) {
+        if (count < DIRECT_LENGTHS) {
+            return count;
+        }
+        return DIRECT_LENGTHS + (32 - Integer.numberOfLeadingZeros(count)) - 5;
+    }
+
+    /**
+     * Returns the number of bits stored after a long-run token: all bits below the leading one.
+     */
+    private static int extraBits(int token) {
+        return token - DIRECT_LENGTHS + 4;
+    }
+
+    private static int readLongRun(CanonicalHuffman.BitReader reader, int token) {
+        int extra = extraBits(token);
+        return 1 << extra | reader.read(extra);
+    }
+
+    /**
+     * Splits the input into runs and builds both codes. Everything {@link #write} needs, and the
+     * exact output size, is known at this point.
+     */
+    private Plan plan(CharSequence input) {
+        int end = input.length();
+        int[] runSymbols = new int[Math.min(end, 1024)];
+        int[] runCounts = new int[runSymbols.length];
+        int runCount = 0;
+        int maxSymbol = 0;
+
+        for (int position = 0; position < end; ) {
+            int symbol = charset.symbolAt(input, position);
+            int runEnd = charset.runEnd(input, position, symbol);
+            if (runCount == runSymbols.length) {
+                runSymbols = Arrays.copyOf(runSymbols, runCount * 2);
+                runCounts = Arrays.copyOf(runCounts, runCount * 2);
+            }
+            runSymbols[runCount] = symbol;
+            runCounts[runCount++] = SymbolCharset.runLength(position, runEnd, symbol);
+            maxSymbol = Math.max(maxSymbol, symbol);
+            position = runEnd;
+        }
+
+        int[] distinct = distinct(runSymbols, runCount, maxSymbol);
+        int[] indexes = new int[runCount];
+        int[] direct = maxSymbol <= 0xFF ? new int[0x100] : null;
+        if (direct != null) {
+            for (int i = 0; i < distinct.length; i++) {
+                direct[distinct[i]] = i;
+            }
+        }
+        long[] symbolFrequencies = new long[distinct.length];
+        long[] tokenFrequencies = new long[TOKEN_COUNT];
+        for (int run = 0; run < runCount; run++) {
+            int index = direct != null ? direct[runSymbols[run]] : Arrays.binarySearch(distinct, runSymbols[run]);
+            indexes[run] = index;
+            symbolFrequencies[index]++;
+            tokenFrequencies[token(runCounts[run])]++;
+        }
+
+        CanonicalHuffman symbolCode = CanonicalHuffman.fromFrequencies(symbolFrequencies, MAX_SYMBOL_CODE_LENGTH);
+        CanonicalHuffman tokenCode = CanonicalHuffman.fromFrequencies(tokenFrequencies, MAX_TOKEN_CODE_LENGTH);
+        int tokenCount = TOKEN_COUNT;
+        while (tokenCount > 0 && tokenFrequencies[tokenCount - 1] == 0) {
+            tokenCount--;
+        }
+
+        long bits = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            bits += symbolFrequencies[i] * symbolCode.length(i);
+        }
+        for (int token = 0; token < tokenCount; token++) {
+            bits += tokenFrequencies[token] * (tokenCode.length(token) + (token < DIRECT_LENGTHS ? 0 : extraBits(token)));
+        }
+
+        long length = Varint.length(runCount) + Varint.length(distinct.length) + distinct.length
+                + Varint.length(tokenCount) + (tokenCount + 1) / 2 + (bits + 7) / 8;
+        for (int i = 0; i < distinct.length; i++) {
+            length += Varint.length(i == 0 ? distinct[0] : distinct[i] - distinct[i - 1]);
+        }
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.ENCODED_LENGTH_OVERFLOW.getMessage());
+        }
+        return new Plan((int) length, runCount, indexes, runCounts, distinct, tokenCount, symbolCode, tokenCode);
+    }
+
+    private static int[] distinct(int[] symbols, int count, int maxSymbol) {
+        if (maxSymbol <= 0xFF) {
+            boolean[] seen = new boolean[0x100];
+            for (int i = 0; i < count; i++) {
+                seen[symbols[i]] = true;
+            }
+            return IntStream.range(0, 0x100).filter(symbol -> seen[symbol]).toArray();
+        }
+        int[] sorted = Arrays.copyOf(symbols, count);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    private record Plan(int length, int runCount, int[] indexes, int[] runCounts, int[] distinct, int tokenCount,
+                        CanonicalHuffman symbolCode, CanonicalHuffman tokenCode) {
+
+        byte[] write() {
+            byte[] result = new byte[length];
+            ByteBuffer header = ByteBuffer.wrap(result);
+            Varint.write(header, runCount);
+            Varint.write(header, distinct.length);
+            for (int i = 0; i < distinct.length; i++) {
+                Varint.write(header, i == 0 ? distinct[0] : distinct[i] - distinct[i - 1]);
+            }
+            for (int i = 0; i < distinct.length; i++) {
+                header.put((byte) symbolCode.length(i));
+            }
+            Varint.write(header, tokenCount);
+            for (int token = 0; token < tokenCount; token += 2) {
+                int high = tokenCode.length(token);
+                int low = token + 1 < tokenCount ? tokenCode.length(token + 1) : 0;
+                header.put((byte) (high << 4 | low));
+            }
+
+            CanonicalHuffman.BitWriter writer = new CanonicalHuffman.BitWriter(result, header.position());
+            for (int run = 0; run < runCount; run++) {
+                int index = indexes[run];
+                writer.write(symbolCode.code(index), symbolCode.length(index));
+                int count = runCounts[run];
+                int token = token(count);
+                writer.write(tokenCode.code(token), tokenCode.length(token));
+                if (token >= DIRECT_LENGTHS) {
+                    int extra = extraBits(token);
+                    writer.write(count, extra);
+                }
+            }
+            writer.flush();
+            return result;
+        }
+    }
+}
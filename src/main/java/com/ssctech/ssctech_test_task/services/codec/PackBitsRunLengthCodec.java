@@ -0,0 +1,179 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Adaptive binary run-length codec in the spirit of PackBits: stretches without useful
+ * repeats are stored as literal blocks rather than one {@code symbol+count} pair per char.
+ *
+ * <p>The value is a sequence of tokens, each starting with an unsigned LEB128 {@link Varint}
+ * header {@code n << 1 | tag}:
+ * <ul>
+ *   <li>tag {@code 1}: a run, followed by its symbol, repeated {@code n} times;</li>
+ *   <li>tag {@code 0}: a literal block, followed by {@code n} symbols stored as they are.</li>
+ * </ul>
+ *
+ * <p>A run only gets its own token when it is at least {@link Varint#MAX_INT_LENGTH} bytes
+ * smaller than its symbols stored raw, which pays for the header of the literal block that
+ * may follow it. Everything else goes into literal blocks, so the output is never longer
+ * than the raw symbols (one byte per char for {@link #LATIN1}, UTF-8 for {@link #UTF8}) plus
+ * {@link Varint#MAX_INT_LENGTH} bytes. Symbols are handled as in {@link VarintRunLengthCodec}.
+ */
+public final class PackBitsRunLengthCodec implements RunLengthCodec {
+
+    public static final PackBitsRunLengthCodec LATIN1 = new PackBitsRunLengthCodec(SymbolCharset.LATIN1);
+    public static final PackBitsRunLengthCodec UTF8 = new PackBitsRunLengthCodec(SymbolCharset.UTF8);
+
+    private static final int RUN_TAG = 1;
+
+    private final SymbolCharset charset;
+
+    private PackBitsRunLengthCodec(SymbolCharset charset) {
+        this.charset = charset;
+    }
+
+    @Override
+    public byte[] encode(CharSequence input) {
+        byte[] result = new byte[encodedLength(input)];
+        writeTokens(input, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public int encode(CharSequence input, ByteBuffer output) {
+        int length = encodedLength(input);
+        if (output.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        writeTokens(input, output);
+        return length;
+    }
+
+    @Override
+    public int encodedLength(CharSequence input) {
+        long length = writeTokens(input, null);
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.ENCODED_LENGTH_OVERFLOW.getMessage());
+        }
+        return (int) length;
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    @Override
+    public String decode(ByteBuffer encoded) {
+        int start = encoded.position();
+        StringBuilder result = new StringBuilder(decodedLength(encoded));
+        encoded.position(start);
+
+        while (encoded.hasRemaining()) {
+            long header = Varint.readLong(encoded);
+            int count = count(header);
+            if ((header & RUN_TAG) != 0) {
+                result.repeat(charset.readSymbol(encoded), count);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    result.appendCodePoint(charset.readSymbol(encoded));
+                }
+            }
+        }
+
+        return result.toString();
+    }
+
+    private int decodedLength(ByteBuffer encoded) {
+        long length = 0;
+
+        while (encoded.hasRemaining()) {
+            long header = Varint.readLong(encoded);
+            int count = count(header);
+            if ((header & RUN_TAG) != 0) {
+                length += (long) count * Character.charCount(charset.readSymbol(encoded));
+            } else {
+                for (int i = 0; i < count; i++) {
+                    length += Character.charCount(charset.readSymbol(encoded));
+                }
+            }
+            if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+                throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+            }
+        }
+
+        return (int) length;
+    }
+
+    private static int count(long header) {
+        long count = header >>> 1;
+        if (count == 0 || count > Integer.MAX_VALUE) {
+            throw Varint.invalidFormat();
+        }
+        return (int) count;
+    }
+
+    /**
+     * Splits {@code input} into tokens and writes them to {@code output}, or only measures
+     * them when {@code output} is {@code null}.
+     *
+     * @return the encoded length in bytes
+     */
+    private long writeTokens(CharSequence input, ByteBuffer output) {
+        long length = 0;
+        int literalStart = 0;
+        int literalSymbols = 0;
+        long literalBytes = 0;
+        int position = 0;
+        int end = input.length();
+
+        while (position < end) {
+            int symbol = charset.symbolAt(input, position);
+            int runEnd = charset.runEnd(input, position, symbol);
+            int count = SymbolCharset.runLength(position, runEnd, symbol);
+            long rawBytes = (long) count * charset.symbolLength(symbol);
+            long runHeader = (long) count << 1 | RUN_TAG;
+            long runBytes = Varint.length(runHeader) + charset.symbolLength(symbol);
+
+            if (rawBytes - runBytes >= Varint.MAX_INT_LENGTH) {
+                length += writeLiteral(input, literalStart, position, literalSymbols, literalBytes, output);
+                if (output != null) {
+                    Varint.write(output, runHeader);
+                    charset.writeSymbol(output, symbol);
+                }
+                length += runBytes;
+                literalStart = runEnd;
+                literalSymbols = 0;
+                literalBytes = 0;
+            } else {
+                literalSymbols += count;
+                literalBytes += rawBytes;
+            }
+            position = runEnd;
+        }
+
+        return length + writeLiteral(input, literalStart, end, literalSymbols, literalBytes, output);
+    }
+
+    private long writeLiteral(CharSequence input, int from, int to, int symbols, long bytes, ByteBuffer output) {
+        if (symbols == 0) {
+            return 0;
+        }
+
+        long header = (long) symbols << 1;
+        if (output != null) {
+            Varint.write(output, header);
+            int position = from;
+            while (position < to) {
+                int symbol = charset.symbolAt(input, position);
+                charset.writeSymbol(output, symbol);
+                position += Character.charCount(symbol);
+            }
+        }
+        return Varint.length(header) + bytes;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Stores the input as it is, one symbol after another, for data where run-length encoding
+ * is a net loss. Symbols are handled as in {@link VarintRunLengthCodec}: {@link #LATIN1} takes
+ * one byte per char, {@link #UTF8} writes (WTF-8) UTF-8.
+ */
+public final class PassthroughCodec implements RunLengthCodec {
+
+    public static final PassthroughCodec LATIN1 = new PassthroughCodec(SymbolCharset.LATIN1);
+    public static final PassthroughCodec UTF8 = new PassthroughCodec(SymbolCharset.UTF8);
+
+    private final SymbolCharset charset;
+
+    private PassthroughCodec(SymbolCharset charset) {
+        this.charset = charset;
+    }
+
+    @Override
+    public byte[] encode(CharSequence input) {
+        byte[] result = new byte[encodedLength(input)];
+        writeSymbols(input, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public int encode(CharSequence input, ByteBuffer output) {
+        int length = encodedLength(input);
+        if (output.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        writeSymbols(input, output);
+        return length;
+    }
+
+    @Override
+    public int encodedLength(CharSequence input) {
+        long length = 0;
+        int position = 0;
+        int end = input.length();
+
+        while (position < end) {
+            int symbol = charset.symbolAt(input, position);
+            length += charset.symbolLength(symbol);
+            position += Character.charCount(symbol);
+        }
+
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.ENCODED_LENGTH_OVERFLOW.getMessage());
+        }
+        return (int) length;
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    @Override
+    public String decode(ByteBuffer encoded) {
+        // No symbol takes fewer bytes than chars, so the builder never grows.
+        StringBuilder result = new StringBuilder(encoded.remaining());
+        while (encoded.hasRemaining()) {
+            result.appendCodePoint(charset.readSymbol(encoded));
+        }
+        return result.toString();
+    }
+
+    private void writeSymbols(CharSequence input, ByteBuffer output) {
+        int position = 0;
+        int end = input.length();
+
+        while (position < end) {
+            int symbol = charset.symbolAt(input, position);
+            charset.writeSymbol(output, symbol);
+            position += Character.charCount(symbol);
+        }
+    }
+}
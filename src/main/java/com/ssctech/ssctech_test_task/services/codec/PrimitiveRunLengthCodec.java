@@ -0,0 +1,444 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Run-length encoding of {@code int[]}, {@code long[]} and {@code double[]} columns without
+ * boxing or formatting the numbers as text.
+ *
+ * <p>{@code runs} splits an array into parallel arrays of run values and run lengths; run ends
+ * are found with {@link Arrays#mismatch}, which the JIT vectorizes. {@code encode} writes the
+ * runs in a compact binary form:
+ *
+ * <pre>
+ * varint runCount
+ * per run: zigzag varint difference from the previous run's value (the first from 0),
+ *          then varint run length
+ * </pre>
+ *
+ * <p>Sorted columns therefore cost a byte or two per run for the value. Doubles are stored as
+ * their raw IEEE 754 bits in the {@code long} layout, and runs compare those bits, so every
+ * value, including {@code -0.0} and NaN payloads, round-trips exactly. Decoding bulk-fills each
+ * run with {@link Arrays#fill}. Malformed input is reported as an
+ * {@link IllegalArgumentException}.
+ */
+public final class PrimitiveRunLengthCodec {
+
+    private PrimitiveRunLengthCodec() {
+    }
+
+    public static IntRuns runs(int[] input) {
+        requireInput(input);
+        int end = input.length;
+        int[] values = new int[initialRunCapacity(end)];
+        int[] lengths = new int[values.length];
+        int runCount = 0;
+        for (int start = 0; start < end; ) {
+            int mismatch = Arrays.mismatch(input, start, end - 1, input, start + 1, end);
+            int runEnd = mismatch < 0 ? end : start + mismatch + 1;
+            if (runCount == values.length) {
+                values = Arrays.copyOf(values, runCount * 2);
+                lengths = Arrays.copyOf(lengths, runCount * 2);
+            }
+            values[runCount] = input[start];
+            lengths[runCount++] = runEnd - start;
+            start = runEnd;
+        }
+        return new IntRuns(Arrays.copyOf(values, runCount), Arrays.copyOf(lengths, runCount));
+    }
+
+    public static LongRuns runs(long[] input) {
+        requireInput(input);
+        int end = input.length;
+        long[] values = new long[initialRunCapacity(end)];
+        int[] lengths = new int[values.length];
+        int runCount = 0;
+        for (int start = 0; start < end; ) {
+            int mismatch = Arrays.mismatch(input, start, end - 1, input, start + 1, end);
+            int runEnd = mismatch < 0 ? end : start + mismatch + 1;
+            if (runCount == values.length) {
+                values = Arrays.copyOf(values, runCount * 2);
+                lengths = Arrays.copyOf(lengths, runCount * 2);
+            }
+            values[runCount] = input[start];
+            lengths[runCount++] = runEnd - start;
+            start = runEnd;
+        }
+        return new LongRuns(Arrays.copyOf(values, runCount), Arrays.copyOf(lengths, runCount));
+    }
+
+    public static DoubleRuns runs(double[] input) {
+        requireInput(input);
+        int end = input.length;
+        double[] values = new double[initialRunCapacity(end)];
+        int[] lengths = new int[values.length];
+        int runCount = 0;
+        for (int start = 0; start < end; ) {
+            int mismatch = Arrays.mismatch(input, start, end - 1, input, start + 1, end);
+            int runEnd = mismatch < 0 ? end : start + mismatch + 1;
+            if (Double.isNaN(input[start])) {
+                // Arrays.mismatch treats all NaNs as equal; a run keeps a single payload.
+                long bits = Double.doubleToRawLongBits(input[start]);
+                int sameBits = start + 1;
+                while (sameBits < runEnd && Double.doubleToRawLongBits(input[sameBits]) == bits) {
+                    sameBits++;
+                }
+                runEnd = sameBits;
+            }
+            if (runCount == values.length) {
+                values = Arrays.copyOf(values, runCount * 2);
+                lengths = Arrays.copyOf(lengths, runCount * 2);
+            }
+            values[runCount] = input[start];
+            lengths[runCount++] = runEnd - start;
+            start = runEnd;
+        }
+        return new DoubleRuns(Arrays.copyOf(values, runCount), Arrays.copyOf(lengths, runCount));
+    }
+
+    public static byte[] encode(int[] input) {
+        return encode(runs(input));
+    }
+
+    public static byte[] encode(long[] input) {
+        return encode(runs(input));
+    }
+
+    public static byte[] encode(double[] input) {
+        return encode(runs(input));
+    }
+
+    public static byte[] encode(IntRuns runs) {
+        long[] values = new long[runs.runCount()];
+        for (int run = 0, previous = 0; run < values.length; run++) {
+            int value = runs.values()[run];
+            values[run] = Integer.toUnsignedLong(zigzag(value - previous));
+            previous = value;
+        }
+        return write(values, runs.lengths());
+    }
+
+    public static byte[] encode(LongRuns runs) {
+        return write(differences(runs.values()), runs.lengths());
+    }
+
+    public static byte[] encode(DoubleRuns runs) {
+        long[] bits = new long[runs.runCount()];
+        for (int run = 0; run < bits.length; run++) {
+            bits[run] = Double.doubleToRawLongBits(runs.values()[run]);
+        }
+        return write(differences(bits), runs.lengths());
+    }
+
+    public static IntRuns decodeIntRuns(byte[] encoded) {
+        ByteBuffer input = wrap(encoded);
+        int runCount = readRunCount(input);
+        int[] values = new int[runCount];
+        int[] lengths = new int[runCount];
+        for (int run = 0, previous = 0; run < runCount; run++) {
+            long zigzag = Varint.readLong(input);
+            if (zigzag >>> Integer.SIZE != 0) {
+                throw Varint.invalidFormat();
+            }
+            previous += unzigzag((int) zigzag);
+            values[run] = previous;
+            lengths[run] = Varint.readPositiveInt(input);
+        }
+        requireEnd(input);
+        return new IntRuns(values, lengths);
+    }
+
+    public static LongRuns decodeLongRuns(byte[] encoded) {
+        ByteBuffer input = wrap(encoded);
+        int runCount = readRunCount(input);
+        long[] values = new long[runCount];
+        int[] lengths = new int[runCount];
+        readLongRuns(input, values, lengths);
+        return new LongRuns(values, lengths);
+    }
+
+    public static DoubleRuns decodeDoubleRuns(byte[] encoded) {
+        ByteBuffer input = wrap(encoded);
+        int runCount = readRunCount(input);
+        long[] bits = new long[runCount];
+        int[] lengths = new int[runCount];
+        readLongRuns(input, bits, lengths);
+        double[] values = new double[runCount];
+        for (int run = 0; run < runCount; run++) {
+            values[run] = Double.longBitsToDouble(bits[run]);
+        }
+        return new DoubleRuns(values, lengths);
+    }
+
+    public static int[] decodeInts(byte[] encoded) {
+        return decodeIntRuns(encoded).toArray();
+    }
+
+    public static long[] decodeLongs(byte[] encoded) {
+        return decodeLongRuns(encoded).toArray();
+    }
+
+    public static double[] decodeDoubles(byte[] encoded) {
+        return decodeDoubleRuns(encoded).toArray();
+    }
+
+    /**
+     * Runs of an {@code int[]}: {@code values[i]} repeated {@code lengths[i]} times. The arrays
+     * are not copied.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length or a length is not positive
+     */
+    public record IntRuns(int[] values, int[] lengths) {
+
+        public IntRuns {
+            requireRuns(values, values == null ? 0 : values.length, lengths);
+        }
+
+        public int runCount() {
+            return values.length;
+        }
+
+        /**
+         * Returns the number of decoded values.
+         */
+        public long length() {
+            return decodedLength(lengths);
+        }
+
+        public int[] toArray() {
+            int[] result = new int[checkedLength(lengths)];
+            fill(result, 0);
+            return result;
+        }
+
+        /**
+         * Writes the decoded values into {@code output} from {@code offset}.
+         *
+         * @return the number of values written
+         * @throws IndexOutOfBoundsException if they do not fit
+         */
+        public int fill(int[] output, int offset) {
+            int length = checkedLength(lengths);
+            Objects.checkFromIndexSize(offset, length, output.length);
+            for (int run = 0, position = offset; run < values.length; run++) {
+                Arrays.fill(output, position, position += lengths[run], values[run]);
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Runs of a {@code long[]}: {@code values[i]} repeated {@code lengths[i]} times. The arrays
+     * are not copied.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length or a length is not positive
+     */
+    public record LongRuns(long[] values, int[] lengths) {
+
+        public LongRuns {
+            requireRuns(values, values == null ? 0 : values.length, lengths);
+        }
+
+        public int runCount() {
+            return values.length;
+        }
+
+        /**
+         * Returns the number of decoded values.
+         */
+        public long length() {
+            return decodedLength(lengths);
+        }
+
+        public long[] toArray() {
+            long[] result = new long[checkedLength(lengths)];
+            fill(result, 0);
+            return result;
+        }
+
+        /**
+         * Writes the decoded values into {@code output} from {@code offset}.
+         *
+         * @return the number of values written
+         * @throws IndexOutOfBoundsException if they do not fit
+         */
+        public int fill(long[] output, int offset) {
+            int length = checkedLength(lengths);
+            Objects.checkFromIndexSize(offset, length, output.length);
+            for (int run = 0, position = offset; run < values.length; run++) {
+                Arrays.fill(output, position, position += lengths[run], values[run]);
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Runs of a {@code double[]}: {@code values[i]} repeated {@code lengths[i]} times. The arrays
+     * are not copied.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length or a length is not positive
+     */
+    public record DoubleRuns(double[] values, int[] lengths) {
+
+        public DoubleRuns {
+            requireRuns(values, values == null ? 0 : values.length, lengths);
+        }
+
+        public int runCount() {
+            return values.length;
+        }
+
+        /**
+         * Returns the number of decoded values.
+         */
+        public long length() {
+            return decodedLength(lengths);
+        }
+
+        public double[] toArray() {
+            double[] result = new double[checkedLength(lengths)];
+            fill(result, 0);
+            return result;
+        }
+
+        /**
+         * Writes the decoded values into {@code output} from {@code offset}.
+         *
+         * @return the number of values written
+         * @throws IndexOutOfBoundsException if they do not fit
+         */
+        public int fill(double[] output, int offset) {
+            int length = checkedLength(lengths);
+            Objects.checkFromIndexSize(offset, length, output.length);
+            for (int run = 0, position = offset; run < values.length; run++) {
+                Arrays.fill(output, position, position += lengths[run], values[run]);
+            }
+            return length;
+        }
+    }
+
+    private static int initialRunCapacity(int length) {
+        return Math.max(1, Math.min(length, 1024));
+    }
+
+    private static long[] differences(long[] values) {
+        long[] result = new long[values.length];
+        long previous = 0;
+        for (int run = 0; run < values.length; run++) {
+            result[run] = zigzag(values[run] - previous);
+            previous = values[run];
+        }
+        return result;
+    }
+
+    /**
+     * Writes the run count and, per run, the already zigzag-coded value and the length.
+     */
+    private static byte[] write(long[] values, int[] lengths) {
+        long length = Varint.length(values.length);
+        for (int run = 0; run < values.length; run++) {
+            length += Varint.length(values[run]) + Varint.length(lengths[run]);
+        }
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.ENCODED_LENGTH_OVERFLOW.getMessage());
+        }
+
+        byte[] result = new byte[(int) length];
+        ByteBuffer output = ByteBuffer.wrap(result);
+        Varint.write(output, values.length);
+        for (int run = 0; run < values.length; run++) {
+            Varint.write(output, values[run]);
+            Varint.write(output, lengths[run]);
+        }
+        return result;
+    }
+
+    private static void readLongRuns(ByteBuffer input, long[] values, int[] lengths) {
+        long previous = 0;
+        for (int run = 0; run < values.length; run++) {
+            previous += unzigzag(Varint.readLong(input));
+            values[run] = previous;
+            lengths[run] = Varint.readPositiveInt(input);
+        }
+        requireEnd(input);
+    }
+
+    /**
+     * Reads the run count, which cannot exceed what the remaining bytes hold at two per run, so a
+     * damaged count cannot allocate more than the input justifies.
+     */
+    private static int readRunCount(ByteBuffer input) {
+        long runCount = Varint.readLong(input);
+        if (runCount < 0 || runCount > input.remaining() / 2) {
+            throw Varint.invalidFormat();
+        }
+        return (int) runCount;
+    }
+
+    private static void requireEnd(ByteBuffer input) {
+        if (input.hasRemaining()) {
+            throw Varint.invalidFormat();
+        }
+    }
+
+    private static ByteBuffer wrap(byte[] encoded) {
+        if (encoded == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        return ByteBuffer.wrap(encoded);
+    }
+
+    private static void requireInput(Object input) {
+        if (input == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+    }
+
+    private static void requireRuns(Object values, int valueCount, int[] lengths) {
+        if (values == null || lengths == null || valueCount != lengths.length) {
+            throw new IllegalArgumentException(ValidationError.INVALID_RUNS.getMessage());
+        }
+        for (int length : lengths) {
+            if (length <= 0) {
+                throw new IllegalArgumentException(ValidationError.INVALID_RUNS.getMessage());
+            }
+        }
+    }
+
+    private static long decodedLength(int[] lengths) {
+        long length = 0;
+        for (int runLength : lengths) {
+            length += runLength;
+        }
+        return length;
+    }
+
+    private static int checkedLength(int[] lengths) {
+        long length = decodedLength(lengths);
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+        }
+        return (int) length;
+    }
+
+    private static int zigzag(int value) {
+        return value << 1 ^ value >> 31;
+    }
+
+    private static long zigzag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static int unzigzag(int value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static long unzigzag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+}
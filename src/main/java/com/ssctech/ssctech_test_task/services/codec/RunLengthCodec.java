@@ -0,0 +1,35 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A binary run-length representation with its own encoder and decoder.
+ *
+ * <p>Implementations are stateless and thread-safe. Malformed encoded input is reported as an
+ * {@link IllegalArgumentException}.
+ */
+public interface RunLengthCodec {
+
+    byte[] encode(CharSequence input);
+
+    /**
+     * Writes the encoded form of {@code input} at the position of {@code output} and advances it.
+     *
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if {@code output} cannot hold the whole encoded
+     *                                          value; nothing is written in that case
+     */
+    int encode(CharSequence input, ByteBuffer output);
+
+    /**
+     * Returns the exact number of bytes {@link #encode(CharSequence)} produces for {@code input}.
+     */
+    int encodedLength(CharSequence input);
+
+    String decode(byte[] encoded);
+
+    /**
+     * Decodes the remaining bytes of {@code encoded} and advances its position to the limit.
+     */
+    String decode(ByteBuffer encoded);
+}
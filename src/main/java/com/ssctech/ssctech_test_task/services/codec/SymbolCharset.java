@@ -0,0 +1,138 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.nio.ByteBuffer;
+
+/**
+ * How the binary codecs read symbols from a {@link CharSequence} and store them as bytes.
+ *
+ * <p>{@link #LATIN1} maps every char to one byte and rejects chars above {@code U+00FF}.
+ * {@link #UTF8} works on code points stored as UTF-8, keeping unpaired surrogates in their
+ * three-byte (WTF-8) form so every Java string round-trips.
+ */
+final class SymbolCharset {
+
+    static final SymbolCharset LATIN1 = new SymbolCharset(false);
+    static final SymbolCharset UTF8 = new SymbolCharset(true);
+
+    private final boolean utf8;
+
+    private SymbolCharset(boolean utf8) {
+        this.utf8 = utf8;
+    }
+
+    int symbolAt(CharSequence input, int index) {
+        if (utf8) {
+            return Character.codePointAt(input, index);
+        }
+        char symbol = input.charAt(index);
+        if (symbol > 0xFF) {
+            throw new IllegalArgumentException(ValidationError.UNMAPPABLE_CHARACTER.getMessage());
+        }
+        return symbol;
+    }
+
+    /**
+     * Returns the index after the run of {@code symbol} starting at {@code from}.
+     */
+    int runEnd(CharSequence input, int from, int symbol) {
+        int width = Character.charCount(symbol);
+        int end = input.length();
+        int position = from + width;
+
+        if (width == 1) {
+            char value = (char) symbol;
+            while (position < end && input.charAt(position) == value
+                    && !(utf8 && Character.isHighSurrogate(value) && isPairAt(input, position))) {
+                position++;
+            }
+        } else {
+            while (position + 1 < end && Character.codePointAt(input, position) == symbol) {
+                position += 2;
+            }
+        }
+        return position;
+    }
+
+    private static boolean isPairAt(CharSequence input, int index) {
+        return index + 1 < input.length() && Character.isLowSurrogate(input.charAt(index + 1));
+    }
+
+    static int runLength(int from, int to, int symbol) {
+        return (to - from) / Character.charCount(symbol);
+    }
+
+    int symbolLength(int symbol) {
+        if (!utf8 || symbol < 0x80) {
+            return 1;
+        }
+        if (symbol < 0x800) {
+            return 2;
+        }
+        return symbol < 0x10000 ? 3 : 4;
+    }
+
+    void writeSymbol(ByteBuffer output, int symbol) {
+        if (!utf8 || symbol < 0x80) {
+            output.put((byte) symbol);
+        } else if (symbol < 0x800) {
+            output.put((byte) (0xC0 | symbol >> 6));
+            output.put((byte) (0x80 | symbol & 0x3F));
+        } else if (symbol < 0x10000) {
+            output.put((byte) (0xE0 | symbol >> 12));
+            output.put((byte) (0x80 | symbol >> 6 & 0x3F));
+            output.put((byte) (0x80 | symbol & 0x3F));
+        } else {
+            output.put((byte) (0xF0 | symbol >> 18));
+            output.put((byte) (0x80 | symbol >> 12 & 0x3F));
+            output.put((byte) (0x80 | symbol >> 6 & 0x3F));
+            output.put((byte) (0x80 | symbol & 0x3F));
+        }
+    }
+
+    int readSymbol(ByteBuffer input) {
+        if (!input.hasRemaining()) {
+            throw Varint.invalidFormat();
+        }
+        int lead = input.get() & 0xFF;
+        if (!utf8 || lead < 0x80) {
+            return lead;
+        }
+
+        int continuation;
+        int symbol;
+        int minimum;
+        if (lead >= 0xC2 && lead < 0xE0) {
+            continuation = 1;
+            symbol = lead & 0x1F;
+            minimum = 0x80;
+        } else if (lead >= 0xE0 && lead < 0xF0) {
+            continuation = 2;
+            symbol = lead & 0x0F;
+            minimum = 0x800;
+        } else if (lead >= 0xF0 && lead < 0xF5) {
+            continuation = 3;
+            symbol = lead & 0x07;
+            minimum = 0x10000;
+        } else {
+            throw Varint.invalidFormat();
+        }
+
+        for (int i = 0; i < continuation; i++) {
+            if (!input.hasRemaining()) {
+                throw Varint.invalidFormat();
+            }
+            int next = input.get() & 0xFF;
+            if ((next & 0xC0) != 0x80) {
+                throw Varint.invalidFormat();
+            }
+            symbol = symbol << 6 | next & 0x3F;
+        }
+
+        if (symbol < minimum || symbol > Character.MAX_CODE_POINT) {
+            throw Varint.invalidFormat();
+        }
+        return symbol;
+    }
+}
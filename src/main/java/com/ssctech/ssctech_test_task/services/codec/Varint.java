@@ -0,0 +1,69 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 variable-length integers: seven bits per byte, least significant group first,
+ * with the high bit set on every byte except the last. Run lengths below 128 take one byte.
+ */
+final class Varint {
+
+    static final int MAX_INT_LENGTH = 5;
+    static final int MAX_LONG_LENGTH = 10;
+
+    private Varint() {
+    }
+
+    static int length(long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    static void write(ByteBuffer output, long value) {
+        while ((value & ~0x7FL) != 0) {
+            output.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.put((byte) value);
+    }
+
+    /**
+     * Reads a varint that must fit in a positive {@code int}.
+     */
+    static int readPositiveInt(ByteBuffer input) {
+        long value = readLong(input, MAX_INT_LENGTH);
+        if (value <= 0 || value > Integer.MAX_VALUE) {
+            throw invalidFormat();
+        }
+        return (int) value;
+    }
+
+    static long readLong(ByteBuffer input) {
+        return readLong(input, MAX_LONG_LENGTH);
+    }
+
+    private static long readLong(ByteBuffer input, int maxLength) {
+        long value = 0;
+        for (int i = 0; i < maxLength; i++) {
+            if (!input.hasRemaining()) {
+                throw invalidFormat();
+            }
+            byte next = input.get();
+            value |= (long) (next & 0x7F) << (7 * i);
+            if (next >= 0) {
+                return value;
+            }
+        }
+        throw invalidFormat();
+    }
+
+    static IllegalArgumentException invalidFormat() {
+        return new IllegalArgumentException(ValidationError.INVALID_FORMAT.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary run-length codec: every run is its symbol followed by the run length as an
+ * unsigned LEB128 {@link Varint}.
+ *
+ * <p>{@link #LATIN1} stores each symbol in one byte and rejects chars above {@code U+00FF};
+ * {@link #UTF8} stores symbols as UTF-8 and runs over code points, so a run of an emoji is one
+ * symbol, not alternating surrogates. Unpaired surrogates are kept as their three-byte
+ * (WTF-8) form, which makes every Java string round-trip. A single-char ASCII run costs two
+ * bytes against four in memory for the textual {@code char+count} output, and counts up to
+ * 127 never take more than one byte.
+ */
+public final class VarintRunLengthCodec implements RunLengthCodec {
+
+    public static final VarintRunLengthCodec LATIN1 = new VarintRunLengthCodec(SymbolCharset.LATIN1);
+    public static final VarintRunLengthCodec UTF8 = new VarintRunLengthCodec(SymbolCharset.UTF8);
+
+    private final SymbolCharset charset;
+
+    private VarintRunLengthCodec(SymbolCharset charset) {
+        this.charset = charset;
+    }
+
+    @Override
+    public byte[] encode(CharSequence input) {
+        byte[] result = new byte[encodedLength(input)];
+        writeRuns(input, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public int encode(CharSequence input, ByteBuffer output) {
+        int length = encodedLength(input);
+        if (output.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        writeRuns(input, output);
+        return length;
+    }
+
+    @Override
+    public int encodedLength(CharSequence input) {
+        long length = 0;
+        int position = 0;
+        int end = input.length();
+
+        while (position < end) {
+            int symbol = charset.symbolAt(input, position);
+            int runEnd = charset.runEnd(input, position, symbol);
+            length += charset.symbolLength(symbol) + Varint.length(SymbolCharset.runLength(position, runEnd, symbol));
+            position = runEnd;
+        }
+
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.ENCODED_LENGTH_OVERFLOW.getMessage());
+        }
+        return (int) length;
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded));
+    }
+
+    @Override
+    public String decode(ByteBuffer encoded) {
+        int start = encoded.position();
+        StringBuilder result = new StringBuilder(decodedLength(encoded));
+        encoded.position(start);
+
+        while (encoded.hasRemaining()) {
+            int symbol = charset.readSymbol(encoded);
+            result.repeat(symbol, Varint.readPositiveInt(encoded));
+        }
+
+        return result.toString();
+    }
+
+    private int decodedLength(ByteBuffer encoded) {
+        long length = 0;
+
+        while (encoded.hasRemaining()) {
+            int symbol = charset.readSymbol(encoded);
+            length += (long) Varint.readPositiveInt(encoded) * Character.charCount(symbol);
+            if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+                throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+            }
+        }
+
+        return (int) length;
+    }
+
+    private void writeRuns(CharSequence input, ByteBuffer output) {
+        int position = 0;
+        int end = input.length();
+
+        while (position < end) {
+            int symbol = charset.symbolAt(input, position);
+            int runEnd = charset.runEnd(input, position, symbol);
+            charset.writeSymbol(output, symbol);
+            Varint.write(output, SymbolCharset.runLength(position, runEnd, symbol));
+            position = runEnd;
+        }
+    }
+}
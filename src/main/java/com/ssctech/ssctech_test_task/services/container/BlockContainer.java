@@ -0,0 +1,31 @@
+package com.ssctech.ssctech_test_task.services.container;
+
+/**
+ * Layout of the block container written by {@link BlockContainerWriter} and read by
+ * {@link BlockContainerReader}. All numbers are big-endian.
+ *
+ * <pre>
+ * header   magic:int  version:byte  codecId:byte  reserved:short  blockSize:int
+ * blocks   payload bytes of every block, back to back
+ * index    per block: sourceOffset:long  fileOffset:long  payloadLength:int  crc32c:int
+ * trailer  indexOffset:long  blockCount:int  sourceLength:long  indexCrc32c:int  magic:int
+ * </pre>
+ *
+ * <p>Every block holds about {@code blockSize} source chars, encoded on its own by the codec
+ * registered under {@code codecId}. A block never ends between the two chars of a surrogate
+ * pair, so some blocks are one char longer; the index records exact source offsets. The CRC32C
+ * of a block covers its payload and that of the index covers the index entries, so a damaged
+ * block is detected without making the rest of the file unreadable.
+ */
+final class BlockContainer {
+
+    static final int MAGIC = 0x524C4542;
+    static final byte VERSION = 1;
+
+    static final int HEADER_LENGTH = 12;
+    static final int INDEX_ENTRY_LENGTH = 24;
+    static final int TRAILER_LENGTH = 28;
+
+    private BlockContainer() {
+    }
+}
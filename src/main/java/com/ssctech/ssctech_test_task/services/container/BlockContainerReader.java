@@ -0,0 +1,269 @@
+package com.ssctech.ssctech_test_task.services.container;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.CodecRegistry;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Random and parallel access to a {@link BlockContainer} file.
+ *
+ * <p>Opening reads only the trailer and the index. {@link #read(long, long)} then maps just the
+ * blocks overlapping the requested range, verifies their checksums and decodes them, so reading
+ * a few KB from the middle of a multi-GB file touches a block or two. {@link #decode()} decodes
+ * all blocks in parallel. A block whose checksum does not match fails every read that needs it
+ * with an {@link IllegalArgumentException}; the other blocks stay readable, and
+ * {@link #verify()} lists the damaged ones. Thread-safe.
+ */
+public final class BlockContainerReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final RunLengthCodec codec;
+    private final long length;
+    private final long[] sourceOffsets;
+    private final long[] fileOffsets;
+    private final int[] payloadLengths;
+    private final int[] checksums;
+
+    private BlockContainerReader(FileChannel channel, RunLengthCodec codec, long length, ByteBuffer index,
+                                 int blockCount) {
+        this.channel = channel;
+        this.codec = codec;
+        this.length = length;
+        this.sourceOffsets = new long[blockCount + 1];
+        this.fileOffsets = new long[blockCount];
+        this.payloadLengths = new int[blockCount];
+        this.checksums = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            sourceOffsets[block] = index.getLong();
+            fileOffsets[block] = index.getLong();
+            payloadLengths[block] = index.getInt();
+            checksums[block] = index.getInt();
+        }
+        sourceOffsets[blockCount] = length;
+    }
+
+    public static BlockContainerReader open(Path path) throws IOException {
+        return open(path, CodecRegistry.withDefaults());
+    }
+
+    /**
+     * @param registry maps the codec id stored in the header to the block codec
+     * @throws IllegalArgumentException if the file is not a valid container or its index is
+     *                                  damaged
+     */
+    public static BlockContainerReader open(Path path, CodecRegistry registry) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return open(channel, registry);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static BlockContainerReader open(FileChannel channel, CodecRegistry registry) throws IOException {
+        long size = channel.size();
+        if (size < BlockContainer.HEADER_LENGTH + BlockContainer.TRAILER_LENGTH) {
+            throw invalid();
+        }
+        ByteBuffer header = readFully(channel, 0, BlockContainer.HEADER_LENGTH);
+        ByteBuffer trailer = readFully(channel, size - BlockContainer.TRAILER_LENGTH, BlockContainer.TRAILER_LENGTH);
+        if (header.getInt() != BlockContainer.MAGIC || header.get() != BlockContainer.VERSION
+                || trailer.getInt(BlockContainer.TRAILER_LENGTH - Integer.BYTES) != BlockContainer.MAGIC) {
+            throw invalid();
+        }
+        RunLengthCodec codec = registry.codec(header.get() & 0xFF);
+
+        long indexOffset = trailer.getLong();
+        int blockCount = trailer.getInt();
+        long length = trailer.getLong();
+        int indexChecksum = trailer.getInt();
+        long indexLength = (long) blockCount * BlockContainer.INDEX_ENTRY_LENGTH;
+        if (blockCount < 0 || length < 0 || indexOffset < BlockContainer.HEADER_LENGTH
+                || indexLength > Integer.MAX_VALUE || indexOffset + indexLength != size - BlockContainer.TRAILER_LENGTH) {
+            throw invalid();
+        }
+
+        ByteBuffer index = readFully(channel, indexOffset, (int) indexLength);
+        CRC32C crc = new CRC32C();
+        crc.update(index.duplicate());
+        if ((int) crc.getValue() != indexChecksum) {
+            throw invalid();
+        }
+        BlockContainerReader reader = new BlockContainerReader(channel, codec, length, index, blockCount);
+        reader.validateIndex(indexOffset);
+        return reader;
+    }
+
+    /**
+     * Returns the number of source chars.
+     */
+    public long length() {
+        return length;
+    }
+
+    public int blockCount() {
+        return fileOffsets.length;
+    }
+
+    /**
+     * Decodes the source chars in {@code [from, to)}, reading only the blocks that overlap it.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within {@code [0, length()]}
+     * @throws IllegalArgumentException  if a block in the range is damaged
+     */
+    public String read(long from, long to) throws IOException {
+        Objects.checkFromToIndex(from, to, length);
+        if (to - from > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+        }
+        if (from == to) {
+            return "";
+        }
+
+        StringBuilder result = new StringBuilder((int) (to - from));
+        for (int block = blockAt(from); block < blockCount() && sourceOffsets[block] < to; block++) {
+            String text = decodeBlock(block);
+            long start = sourceOffsets[block];
+            result.append(text, (int) Math.max(0, from - start), (int) (Math.min(to, sourceOffsets[block + 1]) - start));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Decodes every block, in parallel, and returns the whole source text.
+     *
+     * @throws IllegalArgumentException if any block is damaged
+     */
+    public String decode() throws IOException {
+        if (length > EncodingConfig.MAX_ARRAY_LENGTH.getValue()) {
+            throw new IllegalArgumentException(ValidationError.DECODED_LENGTH_OVERFLOW.getMessage());
+        }
+        String[] blocks = new String[blockCount()];
+        try {
+            IntStream.range(0, blockCount()).parallel().forEach(block -> blocks[block] = decodeUnchecked(block));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        StringBuilder result = new StringBuilder((int) length);
+        for (String block : blocks) {
+            result.append(block);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Checks the checksum of every block.
+     *
+     * @return the indexes of the damaged blocks, in ascending order
+     */
+    public List<Integer> verify() throws IOException {
+        List<Integer> damaged = new ArrayList<>();
+        for (int block = 0; block < blockCount(); block++) {
+            if (!checksumMatches(block, map(block))) {
+                damaged.add(block);
+            }
+        }
+        return damaged;
+    }
+
+    /**
+     * Returns the range of source chars {@code [start, end)} held by {@code block}.
+     */
+    public long[] blockRange(int block) {
+        Objects.checkIndex(block, blockCount());
+        return new long[]{sourceOffsets[block], sourceOffsets[block + 1]};
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int blockAt(long offset) {
+        int found = Arrays.binarySearch(sourceOffsets, 0, blockCount(), offset);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    private String decodeBlock(int block) throws IOException {
+        MappedByteBuffer payload = map(block);
+        if (!checksumMatches(block, payload)) {
+            throw new IllegalArgumentException(ValidationError.CORRUPT_BLOCK.getMessage());
+        }
+        String text = codec.decode(payload);
+        if (text.length() != sourceOffsets[block + 1] - sourceOffsets[block]) {
+            throw new IllegalArgumentException(ValidationError.CORRUPT_BLOCK.getMessage());
+        }
+        return text;
+    }
+
+    private String decodeUnchecked(int block) {
+        try {
+            return decodeBlock(block);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer map(int block) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, fileOffsets[block], payloadLengths[block]);
+    }
+
+    private boolean checksumMatches(int block, ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue() == checksums[block];
+    }
+
+    /**
+     * Rejects indexes whose blocks overlap, leave the data region or do not cover the source in
+     * order, so that a damaged index cannot make reads wander off.
+     */
+    private void validateIndex(long indexOffset) {
+        long expectedFileOffset = BlockContainer.HEADER_LENGTH;
+        for (int block = 0; block < blockCount(); block++) {
+            long sourceLength = sourceOffsets[block + 1] - sourceOffsets[block];
+            if (fileOffsets[block] != expectedFileOffset || payloadLengths[block] < 0 || sourceLength <= 0
+                    || sourceLength > Integer.MAX_VALUE || (block == 0 && sourceOffsets[0] != 0)) {
+                throw invalid();
+            }
+            expectedFileOffset += payloadLengths[block];
+        }
+        if (expectedFileOffset != indexOffset || (blockCount() == 0 && length != 0)) {
+            throw invalid();
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw invalid();
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException(ValidationError.INVALID_CONTAINER.getMessage());
+    }
+}
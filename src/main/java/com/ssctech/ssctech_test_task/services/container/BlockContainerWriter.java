@@ -0,0 +1,154 @@
+package com.ssctech.ssctech_test_task.services.container;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.CodecRegistry;
+import com.ssctech.ssctech_test_task.services.codec.RunLengthCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes text into the seekable {@link BlockContainer} format.
+ *
+ * <p>Blocks are encoded in parallel, a group of a few per core at a time, and written in order,
+ * so memory stays bounded by the group however long the input is. Thread-safe.
+ */
+public final class BlockContainerWriter {
+
+    private final RunLengthCodec codec;
+    private final int codecId;
+    private final int blockSize;
+    private final int groupSize;
+
+    /**
+     * Writes blocks of {@link EncodingConfig#CONTAINER_BLOCK_SIZE} chars with {@link CodecRegistry#VARINT}.
+     */
+    public BlockContainerWriter() {
+        this(CodecRegistry.withDefaults(), CodecRegistry.VARINT, EncodingConfig.CONTAINER_BLOCK_SIZE.getValue());
+    }
+
+    /**
+     * @param codecId   id of the block codec in {@code registry}; readers need a registry that
+     *                  maps it to the same codec
+     * @param blockSize source chars per block
+     */
+    public BlockContainerWriter(CodecRegistry registry, int codecId, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(ValidationError.INVALID_BLOCK_SIZE.getMessage());
+        }
+        this.codec = registry.codec(codecId);
+        this.codecId = codecId;
+        this.blockSize = blockSize;
+        this.groupSize = 2 * ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    /**
+     * Writes {@code input} to {@code output}, replacing any existing file.
+     *
+     * @return the number of bytes written
+     */
+    public long write(CharSequence input, Path output) throws IOException {
+        if (output == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_OUTPUT.getMessage());
+        }
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return write(input, channel);
+        }
+    }
+
+    /**
+     * Writes {@code input} to {@code output}, which is left open.
+     *
+     * @return the number of bytes written
+     */
+    public long write(CharSequence input, WritableByteChannel output) throws IOException {
+        if (input == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_INPUT.getMessage());
+        }
+        if (output == null) {
+            throw new IllegalArgumentException(ValidationError.NULL_OUTPUT.getMessage());
+        }
+
+        List<Integer> starts = blockStarts(input);
+        int blockCount = starts.size() - 1;
+        ByteBuffer index = ByteBuffer.allocate(Math.multiplyExact(blockCount, BlockContainer.INDEX_ENTRY_LENGTH));
+
+        long position = writeFully(output, ByteBuffer.allocate(BlockContainer.HEADER_LENGTH)
+                .putInt(BlockContainer.MAGIC)
+                .put(BlockContainer.VERSION)
+                .put((byte) codecId)
+                .putShort((short) 0)
+                .putInt(blockSize)
+                .flip());
+
+        for (int group = 0; group < blockCount; group += groupSize) {
+            List<byte[]> payloads = IntStream.range(group, Math.min(group + groupSize, blockCount))
+                    .parallel()
+                    .mapToObj(block -> codec.encode(CharBuffer.wrap(input, starts.get(block), starts.get(block + 1))))
+                    .toList();
+            for (int i = 0; i < payloads.size(); i++) {
+                byte[] payload = payloads.get(i);
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                index.putLong(starts.get(group + i))
+                        .putLong(position)
+                        .putInt(payload.length)
+                        .putInt((int) crc.getValue());
+                position += writeFully(output, ByteBuffer.wrap(payload));
+            }
+        }
+
+        CRC32C indexCrc = new CRC32C();
+        indexCrc.update(index.array());
+        long indexOffset = position;
+        position += writeFully(output, index.flip());
+        position += writeFully(output, ByteBuffer.allocate(BlockContainer.TRAILER_LENGTH)
+                .putLong(indexOffset)
+                .putInt(blockCount)
+                .putLong(input.length())
+                .putInt((int) indexCrc.getValue())
+                .putInt(BlockContainer.MAGIC)
+                .flip());
+        return position;
+    }
+
+    /**
+     * Returns the start of every block followed by the input length.
+     */
+    private List<Integer> blockStarts(CharSequence input) {
+        int length = input.length();
+        List<Integer> starts = new ArrayList<>(length / blockSize + 2);
+        int start = 0;
+        while (start < length) {
+            starts.add(start);
+            int end = (int) Math.min(length, (long) start + blockSize);
+            if (end < length && Character.isHighSurrogate(input.charAt(end - 1))
+                    && Character.isLowSurrogate(input.charAt(end))) {
+                end++;
+            }
+            start = end;
+        }
+        starts.add(length);
+        return starts;
+    }
+
+    private static int writeFully(WritableByteChannel output, ByteBuffer buffer) throws IOException {
+        int written = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            output.write(buffer);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,63 @@
+package com.ssctech.ssctech_test_task;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.services.DirectoryEncodingPipeline;
+import com.ssctech.ssctech_test_task.services.FileEncodingService;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchEncodeRunner Tests")
+class BatchEncodeRunnerTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    @DisplayName("Should encode the input directory and report progress")
+    void shouldEncodeTheInputDirectoryAndReportProgress() throws Exception {
+        Files.writeString(Files.createDirectories(directory.resolve("in/logs")).resolve("a.log"), "aaabbb111");
+        Path output = directory.resolve("out");
+
+        BatchEncodeRunner runner = run("--batch.in=" + directory.resolve("in"), "--batch.out=" + output,
+                "--batch.format=escaped");
+
+        assertEquals(0, runner.getExitCode());
+        assertEquals("a3b3\\13", Files.readString(output.resolve("logs/a.log.rle")));
+        assertTrue(out.toString().contains("1/1 files done, 0 skipped, 0 failed, 9 bytes into 7 bytes"));
+        assertTrue(out.toString().contains("Encoded 1 files in"));
+    }
+
+    @Test
+    @DisplayName("Should do nothing without the input option and print usage for bad options")
+    void shouldDoNothingWithoutTheInputOptionAndPrintUsageForBadOptions() throws Exception {
+        assertEquals(0, run("--server.port=0").getExitCode());
+        assertEquals("", out.toString());
+
+        BatchEncodeRunner runner = run("--batch.in=" + directory);
+
+        assertEquals(2, runner.getExitCode());
+        assertTrue(err.toString().contains("Usage: --batch.in=<dir> --batch.out=<dir>"));
+    }
+
+    private BatchEncodeRunner run(String... args) throws InterruptedException {
+        EncodingProperties properties = new EncodingProperties();
+        DirectoryEncodingPipeline pipeline = new DirectoryEncodingPipeline(new LengthEncodingService(properties),
+                new FileEncodingService(properties), properties.getBatch());
+        BatchEncodeRunner runner = new BatchEncodeRunner(pipeline, new PrintStream(out, true), new PrintStream(err, true));
+        runner.run(new DefaultApplicationArguments(args));
+        return runner;
+    }
+}
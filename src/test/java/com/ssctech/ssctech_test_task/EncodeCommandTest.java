@@ -0,0 +1,59 @@
+package com.ssctech.ssctech_test_task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodeCommand Tests")
+class EncodeCommandTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    @DisplayName("Should encode input file into output file")
+    void shouldEncodeInputFileIntoOutputFile() throws IOException {
+        Path input = Files.writeString(directory.resolve("in.txt"), "aaabbb111");
+        Path output = directory.resolve("out.rle");
+
+        int exitCode = run("encode", "--in", input.toString(), "--out", output.toString(), "--format", "escaped");
+
+        assertEquals(0, exitCode);
+        assertEquals("a3b3\\13", Files.readString(output));
+        assertTrue(out.toString().startsWith("Encoded 9 bytes into 7 bytes"));
+    }
+
+    @Test
+    @DisplayName("Should print usage for missing options")
+    void shouldPrintUsageForMissingOptions() {
+        int exitCode = run("encode", "--in", "only-input.txt");
+
+        assertEquals(2, exitCode);
+        assertTrue(err.toString().contains("Usage: encode --in <file> --out <file>"));
+    }
+
+    @Test
+    @DisplayName("Should report missing input file")
+    void shouldReportMissingInputFile() {
+        int exitCode = run("--in", directory.resolve("missing.txt").toString(),
+                "--out", directory.resolve("out.rle").toString());
+
+        assertEquals(1, exitCode);
+        assertTrue(err.toString().startsWith("Encoding failed"));
+    }
+
+    private int run(String... args) {
+        return EncodeCommand.run(args, new PrintStream(out, true), new PrintStream(err, true));
+    }
+}
@@ -0,0 +1,52 @@
+package com.ssctech.ssctech_test_task.config;
+
+import com.ssctech.ssctech_test_task.services.CachingLengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodingCacheConfiguration Tests")
+class EncodingCacheConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(TestConfiguration.class);
+
+    @Test
+    @DisplayName("Should inject the plain service when the cache is disabled")
+    void shouldInjectThePlainServiceWhenTheCacheIsDisabled() {
+        contextRunner.run(context -> {
+            assertInstanceOf(LengthEncodingService.class, context.getBean(LengthEncoding.class));
+            assertTrue(context.getBeansOfType(CachingLengthEncoding.class).isEmpty());
+        });
+    }
+
+    @Test
+    @DisplayName("Should inject the caching decorator when the cache is enabled")
+    void shouldInjectTheCachingDecoratorWhenTheCacheIsEnabled() {
+        contextRunner
+            .withPropertyValues("app.encoding.cache.enabled=true", "app.encoding.cache.max-entry-length=8")
+            .run(context -> {
+                LengthEncoding lengthEncoding = context.getBean(LengthEncoding.class);
+                CachingLengthEncoding cached = assertInstanceOf(CachingLengthEncoding.class, lengthEncoding);
+
+                assertEquals("a2", lengthEncoding.encode("aa"));
+                assertEquals("a2", lengthEncoding.encode("aa"));
+                assertEquals("a9", lengthEncoding.encode("aaaaaaaaa"));
+                assertEquals(1, cached.stats().hits());
+                assertEquals(1, cached.stats().misses());
+            });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(EncodingProperties.class)
+    @Import({LengthEncodingService.class, EncodingCacheConfiguration.class})
+    static class TestConfiguration {
+    }
+}
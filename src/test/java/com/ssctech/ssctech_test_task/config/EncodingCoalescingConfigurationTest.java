@@ -0,0 +1,65 @@
+package com.ssctech.ssctech_test_task.config;
+
+import com.ssctech.ssctech_test_task.services.CachingLengthEncoding;
+import com.ssctech.ssctech_test_task.services.CoalescingLengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncoding;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodingCoalescingConfiguration Tests")
+class EncodingCoalescingConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(TestConfiguration.class);
+
+    @Test
+    @DisplayName("Should inject the plain service when coalescing is disabled")
+    void shouldInjectThePlainServiceWhenCoalescingIsDisabled() {
+        contextRunner.run(context -> {
+            assertInstanceOf(LengthEncodingService.class, context.getBean(LengthEncoding.class));
+            assertTrue(context.getBeansOfType(CoalescingLengthEncoding.class).isEmpty());
+        });
+    }
+
+    @Test
+    @DisplayName("Should inject the coalescing decorator when coalescing is enabled")
+    void shouldInjectTheCoalescingDecoratorWhenCoalescingIsEnabled() {
+        contextRunner
+            .withPropertyValues("app.encoding.coalescing.enabled=true")
+            .run(context -> {
+                LengthEncoding lengthEncoding = context.getBean(LengthEncoding.class);
+
+                assertInstanceOf(CoalescingLengthEncoding.class, lengthEncoding);
+                assertEquals("a2", lengthEncoding.encode("aa"));
+            });
+    }
+
+    @Test
+    @DisplayName("Should coalesce cache misses when the cache is enabled too")
+    void shouldCoalesceCacheMissesWhenTheCacheIsEnabledToo() {
+        contextRunner
+            .withPropertyValues("app.encoding.coalescing.enabled=true", "app.encoding.cache.enabled=true")
+            .run(context -> {
+                LengthEncoding lengthEncoding = context.getBean(LengthEncoding.class);
+                CachingLengthEncoding cached = assertInstanceOf(CachingLengthEncoding.class, lengthEncoding);
+
+                assertEquals(1, context.getBeansOfType(CoalescingLengthEncoding.class).size());
+                assertEquals("a2", lengthEncoding.encode("aa"));
+                assertEquals("a2", lengthEncoding.encode("aa"));
+                assertEquals(1, cached.stats().hits());
+            });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(EncodingProperties.class)
+    @Import({LengthEncodingService.class, EncodingCacheConfiguration.class, EncodingCoalescingConfiguration.class})
+    static class TestConfiguration {
+    }
+}
@@ -0,0 +1,169 @@
+package com.ssctech.ssctech_test_task.controllers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.main.banner-mode=off",
+    "app.encoding.http.max-body-size=100000"
+})
+@DisplayName("EncodingController Tests")
+class EncodingControllerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should encode the request body")
+    void shouldEncodeTheRequestBody() throws Exception {
+        HttpResponse<String> response = post("/api/encode", HttpRequest.BodyPublishers.ofString("wwwwaaadexxxxxx"));
+
+        assertEquals(200, response.statusCode());
+        assertEquals("w4a3d1e1x6", response.body());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+    }
+
+    @Test
+    @DisplayName("Should encode and decode in the escaped format")
+    void shouldEncodeAndDecodeInTheEscapedFormat() throws Exception {
+        String text = "ж112\\\\";
+
+        HttpResponse<String> encoded = post("/api/encode?format=ESCAPED", HttpRequest.BodyPublishers.ofString(text));
+        assertEquals("ж1\\12\\21\\\\2", encoded.body());
+
+        HttpResponse<String> decoded = post("/api/decode?format=ESCAPED", HttpRequest.BodyPublishers.ofString(encoded.body()));
+        assertEquals(text, decoded.body());
+    }
+
+    @Test
+    @DisplayName("Should encode a JSON batch in order")
+    void shouldEncodeAJsonBatchInOrder() throws Exception {
+        HttpResponse<String> response = post("/api/encode/batch", "application/json",
+            HttpRequest.BodyPublishers.ofString("[\"aaab\", \"\", \"zz\"]"));
+
+        assertEquals(200, response.statusCode());
+        assertEquals("[\"a3b1\",\"\",\"z2\"]", response.body());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a malformed batch")
+    void shouldAnswer400ForAMalformedBatch() throws Exception {
+        for (String body : new String[]{"{\"a\": 1}", "[\"a\", null]", "null", "[\"a\""}) {
+            HttpResponse<String> response = post("/api/encode/batch", "application/json",
+                HttpRequest.BodyPublishers.ofString(body));
+            assertEquals(400, response.statusCode(), body);
+        }
+    }
+
+    @Test
+    @DisplayName("Should expose encode metrics through the actuator")
+    void shouldExposeEncodeMetricsThroughTheActuator() throws Exception {
+        post("/api/encode", HttpRequest.BodyPublishers.ofString("aaab"));
+
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/metrics/rle.encode.calls")).build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"api\""), response.body());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for malformed encoded input")
+    void shouldAnswer400ForMalformedEncodedInput() throws Exception {
+        HttpResponse<String> response = post("/api/decode", HttpRequest.BodyPublishers.ofString("a0"));
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("Input format is invalid"));
+    }
+
+    @Test
+    @DisplayName("Should answer 413 for a body declared larger than the limit")
+    void shouldAnswer413ForABodyDeclaredLargerThanTheLimit() throws Exception {
+        HttpResponse<String> response = post("/api/encode", HttpRequest.BodyPublishers.ofString("a".repeat(100_001)));
+
+        assertEquals(413, response.statusCode());
+    }
+
+    @Test
+    @DisplayName("Should answer 413 for a chunked body that crosses the limit")
+    void shouldAnswer413ForAChunkedBodyThatCrossesTheLimit() throws Exception {
+        byte[] body = "a".repeat(120_000).getBytes(StandardCharsets.UTF_8);
+
+        HttpResponse<String> response = post("/api/encode",
+            HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(body)));
+
+        assertEquals(413, response.statusCode());
+    }
+
+    @Test
+    @DisplayName("Should abort the response when the limit is crossed after output was sent")
+    void shouldAbortTheResponseWhenTheLimitIsCrossedAfterOutputWasSent() {
+        byte[] body = "ab".repeat(60_000).getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> post("/api/encode",
+            HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(body))));
+    }
+
+    @Test
+    @DisplayName("Should stream a chunked body within the limit")
+    void shouldStreamAChunkedBodyWithinTheLimit() throws Exception {
+        byte[] body = "x".repeat(99_999).getBytes(StandardCharsets.UTF_8);
+
+        HttpResponse<String> response = post("/api/encode",
+            HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(body)));
+
+        assertEquals(200, response.statusCode());
+        assertEquals("x99999", response.body());
+    }
+
+    @Test
+    @DisplayName("Should serve many concurrent requests")
+    void shouldServeManyConcurrentRequests() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 1; i <= 200; i++) {
+                String body = "a".repeat(i) + "b".repeat(1000);
+                responses.add(executor.submit(() -> post("/api/encode", HttpRequest.BodyPublishers.ofString(body))));
+            }
+
+            for (int i = 1; i <= 200; i++) {
+                HttpResponse<String> response = responses.get(i - 1).get();
+                assertEquals(200, response.statusCode());
+                assertEquals("a" + i + "b1000", response.body());
+            }
+        }
+    }
+
+    private HttpResponse<String> post(String path, HttpRequest.BodyPublisher body) throws IOException, InterruptedException {
+        return post(path, "text/plain; charset=UTF-8", body);
+    }
+
+    private HttpResponse<String> post(String path, String contentType, HttpRequest.BodyPublisher body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", contentType)
+            .POST(body)
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,218 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Async Encoding Tests")
+class AsyncEncoderTest {
+
+    @Nested
+    @DisplayName("Admission Tests")
+    class AdmissionTests {
+
+        private final AsyncEncoder encoder = new AsyncEncoder("rle-test", 2, 100, 100);
+
+        @Test
+        @DisplayName("Should queue by bytes in flight and reject once the queue is full")
+        void shouldQueueByBytesInFlightAndRejectOnceTheQueueIsFull() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<String> running = encoder.submit(60, cancelled -> await(release, "first"));
+            CompletableFuture<String> queued = encoder.submit(60, cancelled -> "second");
+            CompletableFuture<String> overflow = encoder.submit(50, cancelled -> "third");
+            CompletableFuture<String> tooLarge = encoder.submit(101, cancelled -> "fourth");
+
+            assertEquals(60, encoder.inFlightBytes());
+            assertEquals(60, encoder.queuedBytes());
+            assertFalse(queued.isDone());
+            assertRejected(overflow);
+            assertRejected(tooLarge);
+
+            release.countDown();
+            assertEquals("first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+            awaitInFlight(0);
+            assertEquals(0, encoder.queuedBytes());
+        }
+
+        @Test
+        @DisplayName("Should drop queued tasks whose future is cancelled")
+        void shouldDropQueuedTasksWhoseFutureIsCancelled() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger runs = new AtomicInteger();
+            CompletableFuture<String> running = encoder.submit(100, cancelled -> await(release, "first"));
+            CompletableFuture<String> queued = encoder.submit(40, cancelled -> "ran " + runs.incrementAndGet());
+
+            queued.cancel(false);
+            assertEquals(0, encoder.queuedBytes());
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            awaitInFlight(0);
+            assertEquals(0, runs.get());
+        }
+
+        @Test
+        @DisplayName("Should signal cancellation to running work when the future times out")
+        void shouldSignalCancellationToRunningWorkWhenTheFutureTimesOut() throws Exception {
+            CountDownLatch stopped = new CountDownLatch(1);
+            CompletableFuture<String> future = encoder.submit(10, cancelled -> {
+                while (!cancelled.getAsBoolean()) {
+                    Thread.onSpinWait();
+                }
+                stopped.countDown();
+                return "late";
+            }).orTimeout(50, TimeUnit.MILLISECONDS);
+
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, exception.getCause());
+            assertTrue(stopped.await(5, TimeUnit.SECONDS));
+            awaitInFlight(0);
+        }
+
+        @Test
+        @DisplayName("Should finish running tasks and fail queued and new ones once closed")
+        void shouldFinishRunningTasksAndFailQueuedAndNewOnesOnceClosed() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch sliced = new CountDownLatch(1);
+            CompletableFuture<String> running = encoder.submit(30, cancelled -> await(release, "first"));
+            CompletableFuture<Integer> slicing = encoder.submitSliced(30, new AsyncEncoder.Job<>() {
+
+                private int slices;
+
+                @Override
+                public boolean runSlice(BooleanSupplier cancelled) {
+                    if (++slices == 2) {
+                        await(sliced, null);
+                    }
+                    return slices == 5;
+                }
+
+                @Override
+                public Integer result() {
+                    return slices;
+                }
+            });
+            CompletableFuture<String> queued = encoder.submit(60, cancelled -> "second");
+
+            encoder.close();
+            release.countDown();
+            sliced.countDown();
+
+            assertRejected(queued, ValidationError.ENCODER_CLOSED);
+            assertRejected(encoder.submit(10, cancelled -> "third"), ValidationError.ENCODER_CLOSED);
+            assertEquals("first", running.get(5, TimeUnit.SECONDS));
+            assertEquals(5, slicing.get(5, TimeUnit.SECONDS));
+            awaitInFlight(0);
+            assertEquals(0, encoder.queuedBytes());
+        }
+
+        private void awaitInFlight(long bytes) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (encoder.inFlightBytes() != bytes && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(bytes, encoder.inFlightBytes());
+        }
+    }
+
+    @Nested
+    @DisplayName("Service Tests")
+    class ServiceTests {
+
+        private final LengthEncodingService service = new LengthEncodingService();
+
+        @Test
+        @DisplayName("Should produce the same output as the synchronous encode")
+        void shouldProduceTheSameOutputAsTheSynchronousEncode() throws Exception {
+            String input = "aaab11" + "c".repeat(20_000) + "d";
+
+            assertEquals(service.encode(input, EncodingFormat.ESCAPED),
+                    service.encodeAsync(input, EncodingFormat.ESCAPED).get(5, TimeUnit.SECONDS));
+            assertEquals("", service.encodeAsync("").get(5, TimeUnit.SECONDS));
+            assertThrows(IllegalArgumentException.class, () -> service.encodeAsync(null));
+        }
+
+        @Test
+        @DisplayName("Should reject async encodes once closed")
+        void shouldRejectAsyncEncodesOnceClosed() {
+            service.close();
+
+            assertRejected(service.encodeAsync("aab"), ValidationError.ENCODER_CLOSED);
+            assertRejected(service.encodeAsync("a".repeat(1 << 20)), ValidationError.ENCODER_CLOSED);
+            assertEquals("a2b1", service.encode("aab"));
+        }
+
+        @Test
+        @DisplayName("Should stop reading a large input once cancelled")
+        void shouldStopReadingALargeInputOnceCancelled() throws Exception {
+            CountDownLatch reached = new CountDownLatch(1);
+            CountDownLatch resume = new CountDownLatch(1);
+            AtomicInteger maxIndex = new AtomicInteger();
+            int length = 1 << 24;
+            CharSequence input = new CharSequence() {
+                @Override
+                public int length() {
+                    return length;
+                }
+
+                @Override
+                public char charAt(int index) {
+                    maxIndex.accumulateAndGet(index, Math::max);
+                    if (index == 20_000) {
+                        reached.countDown();
+                        await(resume, null);
+                    }
+                    return 'a';
+                }
+
+                @Override
+                public CharSequence subSequence(int start, int end) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+
+            CompletableFuture<String> future = service.encodeAsync(input);
+            assertTrue(reached.await(5, TimeUnit.SECONDS));
+            future.cancel(true);
+            resume.countDown();
+
+            assertThrows(CancellationException.class, future::join);
+            Thread.sleep(50);
+            assertTrue(maxIndex.get() < 40_000, "read up to " + maxIndex.get());
+        }
+    }
+
+    private static String await(CountDownLatch latch, String result) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private static void assertRejected(CompletableFuture<?> future) {
+        assertRejected(future, ValidationError.ENCODE_REJECTED);
+    }
+
+    private static void assertRejected(CompletableFuture<?> future, ValidationError reason) {
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertEquals(reason.getMessage(), exception.getCause().getMessage());
+    }
+}
@@ -0,0 +1,144 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingLengthEncoding Tests")
+class CachingLengthEncodingTest {
+
+    private final LengthEncodingService service = new LengthEncodingService();
+
+    @Test
+    @DisplayName("Should count hits and misses per format")
+    void shouldCountHitsAndMissesPerFormat() {
+        CachingLengthEncoding cached = new CachingLengthEncoding(service, 1_000, 100, 1);
+
+        assertEquals("a3b1", cached.encode("aaab"));
+        assertEquals("a3b1", cached.encode("aaab"));
+        assertEquals("a1\\11", cached.encode("a1", EncodingFormat.ESCAPED));
+        assertEquals("a111", cached.encode((CharSequence) "a1"));
+
+        CacheStats stats = cached.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(3, stats.entries());
+        assertEquals(0.25, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("Should bypass inputs longer than the maximum entry length")
+    void shouldBypassInputsLongerThanTheMaximumEntryLength() {
+        CachingLengthEncoding cached = new CachingLengthEncoding(service, 1_000, 4, 1);
+
+        assertEquals("a5", cached.encode("aaaaa"));
+        assertEquals("a5", cached.encode("aaaaa"));
+        assertEquals("a5", cached.encode(new StringBuilder("aaaaa")));
+
+        assertEquals(0, cached.stats().requests());
+        assertEquals(0, cached.stats().entries());
+    }
+
+    @Test
+    @DisplayName("Should evict to stay within the maximum weight")
+    void shouldEvictToStayWithinTheMaximumWeight() {
+        CachingLengthEncoding cached = new CachingLengthEncoding(service, 100, 100, 1);
+
+        for (int i = 0; i < 50; i++) {
+            cached.encode("key-" + i);
+        }
+
+        CacheStats stats = cached.stats();
+        assertTrue(stats.weight() <= 100, "Weight " + stats.weight());
+        assertTrue(stats.evictions() > 0);
+        assertEquals(50, stats.misses());
+    }
+
+    @Test
+    @DisplayName("Should keep frequently used entries through a scan of one-off inputs")
+    void shouldKeepFrequentlyUsedEntriesThroughAScanOfOneOffInputs() {
+        CachingLengthEncoding cached = new CachingLengthEncoding(service, 200, 100, 1);
+        cached.encode("template");
+        cached.encode("template");
+
+        for (int i = 0; i < 1_000; i++) {
+            cached.encode("one-off-" + i);
+        }
+        long hits = cached.stats().hits();
+        cached.encode("template");
+
+        assertEquals(hits + 1, cached.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Should encode batches through the cache in input order")
+    void shouldEncodeBatchesThroughTheCacheInInputOrder() {
+        CachingLengthEncoding cached = new CachingLengthEncoding(service, 1_000, 3, 1);
+        cached.encode("aab");
+
+        String[] inputs = {"aab", "zzzz", "aab", "c"};
+        cached.encodeAll(inputs, inputs);
+
+        assertArrayEquals(new String[]{"a2b1", "z4", "a2b1", "c1"}, inputs);
+        assertEquals(List.of("c1", "a2b1"), cached.encodeAll(List.of("c", "aab")));
+        assertEquals(4, cached.stats().hits());
+        assertThrows(IllegalArgumentException.class, () -> cached.encodeAll(new String[]{"a", null}, new String[2]));
+    }
+
+    @Test
+    @DisplayName("Should delegate validation of invalid inputs")
+    void shouldDelegateValidationOfInvalidInputs() {
+        CachingLengthEncoding cached = new CachingLengthEncoding(service, 1_000, 100, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> cached.encode((String) null));
+        assertThrows(IllegalArgumentException.class, () -> cached.encode("a", null));
+        assertThrows(IllegalArgumentException.class, () -> cached.encodeAll(new String[1], new String[2]));
+        assertEquals(0, cached.stats().requests());
+    }
+
+    @Test
+    @DisplayName("Should return correct encodings under concurrent use with evictions")
+    void shouldReturnCorrectEncodingsUnderConcurrentUseWithEvictions() throws Exception {
+        CachingLengthEncoding cached = new CachingLengthEncoding(service, 2_000, 100, 4);
+        String[] keys = new String[500];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "k".repeat(1 + i % 7) + i + "z".repeat(i % 5);
+        }
+
+        int tasks = 32;
+        int callsPerTask = 5_000;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int task = 0; task < tasks; task++) {
+                int seed = task;
+                results.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < callsPerTask; i++) {
+                        // Skewed traffic: most calls hit the first ten keys.
+                        String key = keys[random.nextInt(10) < 7 ? random.nextInt(10) : random.nextInt(keys.length)];
+                        assertEquals(service.encode(key), cached.encode(key));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        CacheStats stats = cached.stats();
+        assertEquals((long) tasks * callsPerTask, stats.requests());
+        assertTrue(stats.weight() <= stats.maximumWeight());
+        assertTrue(stats.evictions() > 0);
+        assertTrue(stats.hitRate() > 0.5, "Hit rate " + stats.hitRate());
+    }
+}
@@ -0,0 +1,156 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CoalescingLengthEncoding Tests")
+class CoalescingLengthEncodingTest {
+
+    private final BlockingEncoding delegate = new BlockingEncoding();
+
+    @Test
+    @DisplayName("Should share one encode among concurrent calls with equal inputs")
+    void shouldShareOneEncodeAmongConcurrentCallsWithEqualInputs() throws Exception {
+        CoalescingLengthEncoding coalescing = new CoalescingLengthEncoding(delegate, 4);
+        String input = "a".repeat(1_000) + "b";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> coalescing.encode(input)));
+            awaitUntil(() -> delegate.calls.get() == 1);
+            for (int i = 0; i < 8; i++) {
+                // Equal content in distinct instances, as separately deserialized requests would be.
+                String copy = new String(input.toCharArray());
+                results.add(executor.submit(() -> coalescing.encode((CharSequence) copy)));
+            }
+            awaitUntil(() -> coalescing.coalescedCalls() == 8);
+            delegate.release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("a1000b1", result.get());
+            }
+        }
+
+        assertEquals(1, delegate.calls.get());
+        assertEquals(0, coalescing.inFlight());
+    }
+
+    @Test
+    @DisplayName("Should encode separately inputs that differ, collide or are short")
+    void shouldEncodeSeparatelyInputsThatDifferCollideOrAreShort() throws Exception {
+        CoalescingLengthEncoding coalescing = new CoalescingLengthEncoding(delegate, 2);
+        // "Aa" and "BB" have the same length and hash code.
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = List.of(
+                    executor.submit(() -> coalescing.encode("Aa")),
+                    executor.submit(() -> coalescing.encode("BB")),
+                    executor.submit(() -> coalescing.encode("Aa", EncodingFormat.ESCAPED)),
+                    executor.submit(() -> coalescing.encode("a")),
+                    executor.submit(() -> coalescing.encode("a")),
+                    executor.submit(() -> coalescing.encode(new StringBuilder("Aa"))));
+            awaitUntil(() -> delegate.calls.get() == 6);
+            delegate.release.countDown();
+
+            List<String> encoded = new ArrayList<>();
+            for (Future<String> result : results) {
+                encoded.add(result.get());
+            }
+            assertEquals(List.of("A1a1", "B2", "A1a1", "a1", "a1", "A1a1"), encoded);
+        }
+
+        assertEquals(0, coalescing.coalescedCalls());
+        assertEquals(0, coalescing.inFlight());
+    }
+
+    @Test
+    @DisplayName("Should propagate a failure to every waiting caller and keep nothing afterwards")
+    void shouldPropagateAFailureToEveryWaitingCallerAndKeepNothingAfterwards() throws Exception {
+        CoalescingLengthEncoding coalescing = new CoalescingLengthEncoding(delegate, 2);
+        delegate.failure = new IllegalArgumentException("failed");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> coalescing.encode("aabb"));
+            awaitUntil(() -> delegate.calls.get() == 1);
+            Future<String> second = executor.submit(() -> coalescing.encode("aabb"));
+            awaitUntil(() -> coalescing.coalescedCalls() == 1);
+            delegate.release.countDown();
+
+            for (Future<String> result : List.of(first, second)) {
+                ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+                assertSame(delegate.failure, exception.getCause());
+            }
+        }
+
+        delegate.failure = null;
+        assertEquals("a2b2", coalescing.encode("aabb"));
+        assertEquals(2, delegate.calls.get());
+        assertEquals(0, coalescing.inFlight());
+    }
+
+    @Test
+    @DisplayName("Should delegate validation of invalid inputs")
+    void shouldDelegateValidationOfInvalidInputs() {
+        CoalescingLengthEncoding coalescing = new CoalescingLengthEncoding(new LengthEncodingService(), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> coalescing.encode((String) null));
+        assertThrows(IllegalArgumentException.class, () -> coalescing.encode("a", null));
+        assertEquals(0, coalescing.inFlight());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    /**
+     * Counts encodes and holds each one until {@link #release} opens, then answers or fails.
+     */
+    private static final class BlockingEncoding extends ForwardingLengthEncoding {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile RuntimeException failure;
+
+        BlockingEncoding() {
+            super(new LengthEncodingService());
+        }
+
+        @Override
+        public String encode(String input, EncodingFormat format) {
+            calls.incrementAndGet();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return delegate().encode(input, format);
+        }
+
+        @Override
+        public String encode(CharSequence input, EncodingFormat format) {
+            return encode(input.toString(), format);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.codec.PassthroughCodec;
+import com.ssctech.ssctech_test_task.services.codec.VarintRunLengthCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Codec Selection Tests")
+class CodecSamplerTest {
+
+    private final CodecSampler sampler = new CodecSampler(8, 256);
+
+    private static String runs(Random random, int length, int maxRun) {
+        StringBuilder input = new StringBuilder(length);
+        while (input.length() < length) {
+            input.repeat((char) ('a' + random.nextInt(26)), 1 + random.nextInt(maxRun));
+        }
+        return input.toString();
+    }
+
+    @Nested
+    @DisplayName("Sampler Tests")
+    class SamplerTests {
+
+        @Test
+        @DisplayName("Should estimate run length and entropy")
+        void shouldEstimateRunLengthAndEntropy() {
+            CodecSampler.Estimate uniform = sampler.sample("a".repeat(100));
+            CodecSampler.Estimate alternating = sampler.sample("ab".repeat(50));
+
+            assertEquals(100, uniform.averageRunLength());
+            assertEquals(0, uniform.entropy());
+            assertEquals(1, alternating.averageRunLength());
+            assertEquals(1, alternating.entropy(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should choose the codec matching the run structure")
+        void shouldChooseTheCodecMatchingTheRunStructure() {
+            Random random = new Random(18);
+            StringBuilder noise = new StringBuilder();
+            for (int i = 0; i < 100_000; i++) {
+                noise.append((char) random.nextInt(256));
+            }
+
+            assertEquals(CodecRegistry.VARINT, sampler.choose(runs(random, 100_000, 20)));
+            assertEquals(CodecRegistry.PACKBITS, sampler.choose(runs(random, 100_000, 3)));
+            assertEquals(CodecRegistry.PASSTHROUGH, sampler.choose(runs(random, 100_000, 1)));
+            assertEquals(CodecRegistry.PASSTHROUGH, sampler.choose(noise));
+            assertEquals(CodecRegistry.PASSTHROUGH, sampler.choose(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive Encoding Tests")
+    class AdaptiveEncodingTests {
+
+        private final LengthEncodingService service = new LengthEncodingService();
+
+        @ParameterizedTest
+        @DisplayName("Should round trip through the codec named in the header")
+        @ValueSource(strings = {"", "abcdefghij", "aaaaaaaaaabbbbbbbbbbcccc", "aab1cc😀😀\ud800"})
+        void shouldRoundTripThroughTheCodecNamedInTheHeader(String input) {
+            byte[] encoded = service.encodeAdaptive(input);
+
+            assertEquals(sampler.choose(input), encoded[0]);
+            assertEquals(input, service.decodeAdaptive(encoded));
+        }
+
+        @Test
+        @DisplayName("Should never be much larger than the raw input")
+        void shouldNeverBeMuchLargerThanTheRawInput() {
+            Random random = new Random(18);
+            for (int maxRun : new int[]{1, 2, 3, 5, 50}) {
+                String input = runs(random, 50_000, maxRun);
+                byte[] encoded = service.encodeAdaptive(input);
+
+                assertTrue(encoded.length <= input.length() + 6, "max run " + maxRun + ": " + encoded.length);
+                assertEquals(input, service.decodeAdaptive(encoded));
+            }
+        }
+
+        @Test
+        @DisplayName("Should decode codecs from a custom registry")
+        void shouldDecodeCodecsFromACustomRegistry() {
+            CodecRegistry registry = CodecRegistry.withDefaults().register(42, VarintRunLengthCodec.LATIN1);
+            LengthEncodingService custom = new LengthEncodingService(new EncodingProperties(), null, registry);
+            byte[] payload = VarintRunLengthCodec.LATIN1.encode("aaab");
+            byte[] encoded = new byte[payload.length + 1];
+            encoded[0] = 42;
+            System.arraycopy(payload, 0, encoded, 1, payload.length);
+
+            assertEquals("aaab", custom.decodeAdaptive(encoded));
+            IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class,
+                    () -> service.decodeAdaptive(encoded));
+            assertEquals(ValidationError.UNKNOWN_CODEC.getMessage(), unknown.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> service.decodeAdaptive(new byte[0]));
+        }
+
+        @Test
+        @DisplayName("Should reject duplicate and out of range codec ids")
+        void shouldRejectDuplicateAndOutOfRangeCodecIds() {
+            CodecRegistry registry = CodecRegistry.withDefaults();
+
+            assertThrows(IllegalArgumentException.class, () -> registry.register(CodecRegistry.TEXT, PassthroughCodec.LATIN1));
+            assertThrows(IllegalArgumentException.class, () -> registry.register(256, PassthroughCodec.LATIN1));
+            assertThrows(IllegalArgumentException.class, () -> registry.codec(200));
+        }
+
+        @Test
+        @DisplayName("Should store the text codec as the UTF-8 escaped encoding")
+        void shouldStoreTheTextCodecAsTheUtf8EscapedEncoding() {
+            TextRunLengthCodec codec = TextRunLengthCodec.ESCAPED;
+            byte[] encoded = codec.encode("ääb11");
+
+            assertEquals("ä2b1\\12", new String(encoded, StandardCharsets.UTF_8));
+            assertEquals("ääb11", codec.decode(encoded));
+            IllegalArgumentException unpaired = assertThrows(IllegalArgumentException.class,
+                    () -> codec.encode("a\ud800"));
+            assertEquals(ValidationError.UNMAPPABLE_CHARACTER.getMessage(), unpaired.getMessage());
+        }
+    }
+}
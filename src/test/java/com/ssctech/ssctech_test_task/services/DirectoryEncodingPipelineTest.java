@@ -0,0 +1,182 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DirectoryEncodingPipeline Tests")
+class DirectoryEncodingPipelineTest {
+
+    @TempDir
+    private Path directory;
+
+    private final LengthEncodingService service = new LengthEncodingService();
+    private final List<DirectoryEncodingPipeline.Progress> reports = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+
+    private final DirectoryEncodingPipeline.Listener listener = new DirectoryEncodingPipeline.Listener() {
+
+        @Override
+        public void progress(DirectoryEncodingPipeline.Progress progress) {
+            reports.add(progress);
+        }
+
+        @Override
+        public void failed(String file, Exception cause) {
+            failures.add(file);
+        }
+    };
+
+    private static DirectoryEncodingPipeline pipeline(int streamThreshold) {
+        EncodingProperties.Batch properties = new EncodingProperties.Batch();
+        properties.setEncodeThreads(3);
+        properties.setQueueCapacity(2);
+        properties.setMaxBufferedBytes(64 * 1024);
+        properties.setStreamThreshold(streamThreshold);
+        properties.setProgressIntervalMillis(0);
+        return new DirectoryEncodingPipeline(new LengthEncodingService(), new FileEncodingService(), properties);
+    }
+
+    private Path write(Path root, String name, byte[] content) throws IOException {
+        Path file = root.resolve(name);
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content);
+    }
+
+    @Test
+    @DisplayName("Should encode a directory tree into a mirrored tree")
+    void shouldEncodeADirectoryTreeIntoAMirroredTree() throws Exception {
+        Path input = directory.resolve("in");
+        Path output = directory.resolve("out");
+        Random random = new Random(21);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            byte[] content = new byte[random.nextInt(i == 0 ? 1 : 40_000)];
+            for (int position = 0; position < content.length; ) {
+                int run = Math.min(content.length - position, 1 + random.nextInt(50));
+                byte symbol = "ab1\\".getBytes(StandardCharsets.ISO_8859_1)[random.nextInt(4)];
+                for (int j = 0; j < run; j++) {
+                    content[position++] = symbol;
+                }
+            }
+            String name = "dir" + i % 3 + "/nested" + i % 2 + "/file" + i + ".txt";
+            write(input, name, content);
+            names.add(name);
+        }
+
+        DirectoryEncodingPipeline.Progress progress = pipeline(20_000)
+                .encode(input, output, EncodingFormat.ESCAPED, listener);
+
+        assertEquals(40, progress.totalFiles());
+        assertEquals(40, progress.encodedFiles());
+        assertEquals(0, progress.remainingFiles());
+        assertEquals(List.of(), failures);
+        assertEquals(progress, reports.getLast());
+        long written = 0;
+        for (String name : names) {
+            byte[] content = Files.readAllBytes(input.resolve(name));
+            Path encoded = output.resolve(name + DirectoryEncodingPipeline.OUTPUT_SUFFIX);
+            assertEquals(service.encode(content, EncodingFormat.ESCAPED),
+                    Files.readString(encoded, StandardCharsets.ISO_8859_1), name);
+            written += Files.size(encoded);
+        }
+        assertEquals(written, progress.bytesWritten());
+    }
+
+    @Test
+    @DisplayName("Should resume from the manifest and re-encode changed files")
+    void shouldResumeFromTheManifestAndReEncodeChangedFiles() throws Exception {
+        Path input = directory.resolve("in");
+        Path output = input.resolve("out");
+        write(input, "a.txt", "aaab".getBytes(StandardCharsets.ISO_8859_1));
+        Path changed = write(input, "b/b.txt", "bbbb".getBytes(StandardCharsets.ISO_8859_1));
+        DirectoryEncodingPipeline pipeline = pipeline(1024);
+        pipeline.encode(input, output, EncodingFormat.CLASSIC, listener);
+
+        write(input, "c.txt", "cc".getBytes(StandardCharsets.ISO_8859_1));
+        Files.writeString(changed, "bbbbbb");
+        Files.writeString(output.resolve(DirectoryEncodingPipeline.MANIFEST_NAME), "CLASSIC\t1", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        DirectoryEncodingPipeline.Progress resumed = pipeline.encode(input, output, EncodingFormat.CLASSIC, listener);
+
+        assertEquals(3, resumed.totalFiles());
+        assertEquals(1, resumed.skippedFiles());
+        assertEquals(2, resumed.encodedFiles());
+        assertEquals("b6", Files.readString(output.resolve("b/b.txt.rle")));
+        assertEquals("c2", Files.readString(output.resolve("c.txt.rle")));
+
+        DirectoryEncodingPipeline.Progress escaped = pipeline.encode(input, output, EncodingFormat.ESCAPED, listener);
+        assertEquals(0, escaped.skippedFiles());
+        assertEquals(3, pipeline.encode(input, output, EncodingFormat.ESCAPED, listener).skippedFiles());
+    }
+
+    @Test
+    @DisplayName("Should ignore a truncated last manifest line")
+    void shouldIgnoreATruncatedLastManifestLine() throws Exception {
+        Path input = directory.resolve("in");
+        Path output = directory.resolve("out");
+        FileTime modified = FileTime.fromMillis(1_700_000_000_000L);
+        Files.setLastModifiedTime(write(input, "a", "aaab".getBytes(StandardCharsets.ISO_8859_1)), modified);
+        Files.setLastModifiedTime(write(input, "ab", "aaab".getBytes(StandardCharsets.ISO_8859_1)), modified);
+        // Left by an earlier run that crashed before recording "a".
+        write(output, "a.rle", "stale".getBytes(StandardCharsets.ISO_8859_1));
+        // The entry for "ab", cut off one char into its name by a crash mid-append.
+        Files.writeString(output.resolve(DirectoryEncodingPipeline.MANIFEST_NAME),
+                "CLASSIC\t4\t" + modified.toMillis() + "\ta", StandardCharsets.UTF_8);
+        DirectoryEncodingPipeline pipeline = pipeline(1024);
+
+        DirectoryEncodingPipeline.Progress progress = pipeline.encode(input, output, EncodingFormat.CLASSIC, listener);
+
+        assertEquals(0, progress.skippedFiles());
+        assertEquals(2, progress.encodedFiles());
+        assertEquals("a3b1", Files.readString(output.resolve("a.rle")));
+        assertEquals(2, pipeline.encode(input, output, EncodingFormat.CLASSIC, listener).skippedFiles());
+    }
+
+    @Test
+    @DisplayName("Should report files that cannot be written and carry on")
+    void shouldReportFilesThatCannotBeWrittenAndCarryOn() throws Exception {
+        Path input = directory.resolve("in");
+        Path output = directory.resolve("out");
+        write(input, "good.txt", "gggg".getBytes(StandardCharsets.ISO_8859_1));
+        write(input, "blocked.txt", "xx".getBytes(StandardCharsets.ISO_8859_1));
+        Files.createDirectories(output.resolve("blocked.txt.rle"));
+        Files.writeString(output.resolve("blocked.txt.rle/keep"), "");
+
+        DirectoryEncodingPipeline.Progress progress = pipeline(1024).encode(input, output, EncodingFormat.CLASSIC, listener);
+
+        assertEquals(1, progress.encodedFiles());
+        assertEquals(1, progress.failedFiles());
+        assertEquals(List.of("blocked.txt"), failures);
+        assertEquals("g4", Files.readString(output.resolve("good.txt.rle")));
+        assertFalse(Files.exists(output.resolve("blocked.txt.rle.part")));
+    }
+
+    @Test
+    @DisplayName("Should reject a missing input directory and identical input and output")
+    void shouldRejectAMissingInputDirectoryAndIdenticalInputAndOutput() {
+        DirectoryEncodingPipeline pipeline = pipeline(1024);
+
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class,
+                () -> pipeline.encode(directory.resolve("missing"), directory, EncodingFormat.CLASSIC, listener));
+        assertEquals(ValidationError.NOT_A_DIRECTORY.getMessage(), missing.getMessage());
+        IllegalArgumentException same = assertThrows(IllegalArgumentException.class,
+                () -> pipeline.encode(directory, directory, EncodingFormat.CLASSIC, listener));
+        assertEquals(ValidationError.SAME_INPUT_AND_OUTPUT.getMessage(), same.getMessage());
+    }
+}
@@ -0,0 +1,195 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingConfig;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodedText Tests")
+class EncodedTextTest {
+
+    private final LengthEncodingService service = new LengthEncodingService();
+
+    @Nested
+    @DisplayName("Random Access Tests")
+    class RandomAccessTests {
+
+        @Test
+        @DisplayName("Should read every char and substring of the decoded text")
+        void shouldReadEveryCharAndSubstringOfTheDecodedText() {
+            String input = "aaabccddddde";
+            EncodedText text = service.encodeText(input);
+
+            assertEquals(input.length(), text.length());
+            assertEquals(5, text.runCount());
+            for (int i = 0; i < input.length(); i++) {
+                assertEquals(input.charAt(i), text.charAt(i), "index " + i);
+            }
+            for (int from = 0; from <= input.length(); from++) {
+                for (int to = from; to <= input.length(); to++) {
+                    assertEquals(input.substring(from, to), text.substring(from, to));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should match random inputs spanning several windows")
+        void shouldMatchRandomInputsSpanningSeveralWindows() {
+            Random random = new Random(14);
+            StringBuilder input = new StringBuilder();
+            while (input.length() < 3 * EncodingConfig.STREAM_BUFFER_SIZE.getValue()) {
+                input.repeat((char) ('a' + random.nextInt(3)), 1 + random.nextInt(40));
+            }
+            EncodedText text = service.encodeText(input);
+
+            assertEquals(input.toString(), text.decode());
+            assertEquals(service.encode(input, EncodingFormat.ESCAPED), text.encode(EncodingFormat.ESCAPED));
+            for (int i = 0; i < 1_000; i++) {
+                int from = random.nextInt(input.length());
+                int to = from + random.nextInt(input.length() - from + 1);
+                assertEquals(input.substring(from, to), text.substring(from, to));
+            }
+        }
+
+        @Test
+        @DisplayName("Should address runs longer than the maximum count without decoding them")
+        void shouldAddressRunsLongerThanTheMaximumCount() {
+            long length = 3L * Integer.MAX_VALUE;
+            EncodedText text = new EncodedText.Builder()
+                    .append('a', Integer.MAX_VALUE)
+                    .append('a', Integer.MAX_VALUE)
+                    .append('b', Integer.MAX_VALUE)
+                    .build();
+
+            assertEquals(2, text.runCount());
+            assertEquals(length, text.length());
+            assertEquals('a', text.charAt(2L * Integer.MAX_VALUE - 1));
+            assertEquals('b', text.charAt(2L * Integer.MAX_VALUE));
+            assertEquals("aabb", text.substring(2L * Integer.MAX_VALUE - 2, 2L * Integer.MAX_VALUE + 2));
+            assertEquals('b', text.charAt(length - 1));
+        }
+
+        @Test
+        @DisplayName("Should reject indexes outside the decoded text")
+        void shouldRejectIndexesOutsideTheDecodedText() {
+            EncodedText text = service.encodeText("aab");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> text.charAt(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> text.charAt(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> text.substring(2, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> text.substring(0, 4));
+            assertEquals("", text.substring(3, 3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should parse encoded values in both formats")
+        void shouldParseEncodedValuesInBothFormats() {
+            EncodedText classic = EncodedText.parse("a3b1c2", EncodingFormat.CLASSIC);
+            EncodedText escaped = EncodedText.parse("a3\\12c2", EncodingFormat.ESCAPED);
+
+            assertEquals("aaabcc", classic.decode());
+            assertEquals("aaa11cc", escaped.decode());
+            assertEquals("a3b1c2", classic.encode(EncodingFormat.CLASSIC));
+            assertEquals("a3\\12c2", escaped.encode(EncodingFormat.ESCAPED));
+        }
+
+        @Test
+        @DisplayName("Should split runs longer than the maximum count when encoding")
+        void shouldSplitRunsLongerThanTheMaximumCountWhenEncoding() {
+            EncodedText text = new EncodedText.Builder().append('a', Integer.MAX_VALUE + 2L).build();
+
+            assertEquals("a" + Integer.MAX_VALUE + "a2", text.encode(EncodingFormat.CLASSIC));
+        }
+
+        @Test
+        @DisplayName("Should handle empty and invalid inputs")
+        void shouldHandleEmptyAndInvalidInputs() {
+            assertTrue(service.encodeText("").isEmpty());
+            assertSame(EncodedText.empty(), EncodedText.parse("", EncodingFormat.CLASSIC));
+            assertEquals("", EncodedText.empty().decode());
+
+            IllegalArgumentException nullInput = assertThrows(IllegalArgumentException.class,
+                    () -> service.encodeText(null));
+            assertEquals(ValidationError.NULL_INPUT.getMessage(), nullInput.getMessage());
+            IllegalArgumentException invalid = assertThrows(IllegalArgumentException.class,
+                    () -> EncodedText.parse("a0", EncodingFormat.CLASSIC));
+            assertEquals(ValidationError.INVALID_FORMAT.getMessage(), invalid.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Compressed Domain Tests")
+    class CompressedDomainTests {
+
+        @Test
+        @DisplayName("Should agree with String operations on random texts")
+        void shouldAgreeWithStringOperationsOnRandomTexts() {
+            Random random = new Random(16);
+            String[] inputs = new String[60];
+            EncodedText[] texts = new EncodedText[inputs.length];
+            for (int i = 0; i < inputs.length; i++) {
+                StringBuilder input = new StringBuilder();
+                int runs = random.nextInt(6);
+                for (int run = 0; run < runs; run++) {
+                    input.repeat("abc".charAt(random.nextInt(3)), 1 + random.nextInt(3));
+                }
+                inputs[i] = input.toString();
+                texts[i] = service.encodeText(input);
+            }
+
+            for (int i = 0; i < inputs.length; i++) {
+                assertEquals(inputs[i].chars().filter(c -> c == 'b').count(), texts[i].count('b'));
+                for (int j = 0; j < inputs.length; j++) {
+                    String joined = inputs[i] + inputs[j];
+                    EncodedText concat = texts[i].concat(texts[j]);
+
+                    assertEquals(joined, concat.decode());
+                    assertEquals(service.encodeText(joined), concat);
+                    assertEquals(service.encodeText(joined).runCount(), concat.runCount());
+                    assertEquals(inputs[i].equals(inputs[j]), texts[i].equals(texts[j]));
+                    assertEquals(Integer.signum(inputs[i].compareTo(inputs[j])),
+                            Integer.signum(texts[i].compareTo(texts[j])), inputs[i] + " vs " + inputs[j]);
+                    assertEquals(inputs[i].regionMatches(1, inputs[j], 2, 3),
+                            texts[i].regionMatches(1, texts[j], 2, 3), inputs[i] + " vs " + inputs[j]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should give equal hash codes to texts built from different encodings")
+        void shouldGiveEqualHashCodesToTextsBuiltFromDifferentEncodings() {
+            EncodedText split = EncodedText.parse("a1a2b1", EncodingFormat.CLASSIC);
+            EncodedText merged = new RunLengthEncoder().append("aaa").append('b').snapshot();
+
+            assertEquals(merged, split);
+            assertEquals(merged.hashCode(), split.hashCode());
+            assertNotEquals(merged, EncodedText.parse("a3b2", EncodingFormat.CLASSIC));
+        }
+
+        @Test
+        @DisplayName("Should operate on very long runs without decoding them")
+        void shouldOperateOnVeryLongRunsWithoutDecodingThem() {
+            EncodedText huge = new EncodedText.Builder().append('a', 1L << 40).append('b', 1).build();
+            EncodedText shifted = new EncodedText.Builder().append('a', 1L << 40).append('c', 1).build();
+
+            assertEquals(1L << 41, huge.concat(huge).count('a'));
+            assertEquals(4, huge.concat(huge).runCount());
+            assertEquals(2, huge.concat(new EncodedText.Builder().append('b', 2).build()).runCount());
+            assertTrue(huge.compareTo(shifted) < 0);
+            assertTrue(huge.regionMatches(5, shifted, 0, (1L << 40) - 5));
+            assertFalse(huge.regionMatches(5, shifted, 0, (1L << 40) - 4));
+            assertFalse(huge.regionMatches(0, shifted, 0, (1L << 40) + 2));
+        }
+    }
+}
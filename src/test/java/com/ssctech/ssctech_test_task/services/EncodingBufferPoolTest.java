@@ -0,0 +1,104 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodingBufferPool Tests")
+class EncodingBufferPoolTest {
+
+    @Test
+    @DisplayName("Should reuse released buffers")
+    void shouldReuseReleasedBuffers() {
+        EncodingBufferPool pool = new EncodingBufferPool(2, 64);
+
+        char[] first = pool.acquire(10);
+        assertEquals(64, first.length);
+        pool.release(first);
+
+        assertSame(first, pool.acquire(64));
+    }
+
+    @Test
+    @DisplayName("Should allocate oversized buffers without pooling them")
+    void shouldAllocateOversizedBuffersWithoutPoolingThem() {
+        EncodingBufferPool pool = new EncodingBufferPool(2, 64);
+
+        char[] large = pool.acquire(100);
+        assertEquals(100, large.length);
+        pool.release(large);
+
+        assertNotSame(large, pool.acquire(100));
+        assertEquals(64, pool.acquire(1).length);
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of idle buffers")
+    void shouldKeepAtMostTheConfiguredNumberOfIdleBuffers() {
+        EncodingBufferPool pool = new EncodingBufferPool(1, 8);
+        char[] first = pool.acquire(8);
+        char[] second = pool.acquire(8);
+
+        pool.release(first);
+        pool.release(second);
+
+        assertSame(first, pool.acquire(8));
+        assertNotSame(second, pool.acquire(8));
+    }
+
+    @Test
+    @DisplayName("Should get back the acquired buffer after a batch outgrows it")
+    void shouldGetBackTheAcquiredBufferAfterABatchOutgrowsIt() {
+        EncodingBufferPool pool = new EncodingBufferPool(1, 1024);
+        char[] pooled = pool.acquire(1);
+        pool.release(pooled);
+        BatchEncoder batchEncoder = new BatchEncoder(null, 16, RunScanner.SCALAR, pool);
+        String[] outputs = new String[2];
+
+        batchEncoder.encode(new String[]{"ab", "ab".repeat(1_000)}, outputs, EncodingFormat.CLASSIC);
+
+        assertEquals("a1b1".repeat(1_000), outputs[1]);
+        assertSame(pooled, pool.acquire(1));
+    }
+
+    @Test
+    @DisplayName("Should never hand the same buffer to two virtual threads")
+    void shouldNeverHandTheSameBufferToTwoVirtualThreads() throws Exception {
+        EncodingBufferPool pool = new EncodingBufferPool(4, 32);
+        LengthEncodingService lengthEncoding = new LengthEncodingService();
+        char[] input = "aaabbbbccd".toCharArray();
+        String expected = lengthEncoding.encode(input);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int task = 0; task < 64; task++) {
+                results.add(executor.submit(() -> {
+                    StringBuilder encoded = new StringBuilder();
+                    for (int i = 0; i < 500; i++) {
+                        char[] buffer = pool.acquire(input.length * 2);
+                        int written = lengthEncoding.encodeInto(input, 0, input.length, buffer, 0);
+                        Thread.yield();
+                        encoded.setLength(0);
+                        encoded.append(buffer, 0, written);
+                        pool.release(buffer);
+                        if (!encoded.toString().equals(expected)) {
+                            return encoded.toString();
+                        }
+                    }
+                    return expected;
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodingMetrics Tests")
+class EncodingMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private LengthEncodingService lengthEncoding;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        EncodingProperties properties = new EncodingProperties();
+        properties.getMetrics().setSampleRate(1);
+        properties.getMetrics().setLargeEncodeThreshold(1_000);
+        lengthEncoding = new LengthEncodingService(properties, registry);
+    }
+
+    @Test
+    @DisplayName("Should record latency, lengths, ratio and runs of single encodes")
+    void shouldRecordLatencyLengthsRatioAndRunsOfSingleEncodes() {
+        lengthEncoding.encode("aaaabbbccc");
+        lengthEncoding.encode("aaaabbbccc".toCharArray());
+        lengthEncoding.encode("aaaabbbccc".getBytes(StandardCharsets.ISO_8859_1));
+        lengthEncoding.encode(ByteBuffer.allocateDirect(10).put("aaaabbbccc".getBytes(StandardCharsets.ISO_8859_1)).flip());
+
+        assertEquals(4, calls("single", "classic"));
+        assertEquals(4, registry.get("rle.encode.latency").tags("api", "single", "format", "classic").timer().count());
+        DistributionSummary input = registry.get("rle.encode.input.length").tags("api", "single", "format", "classic").summary();
+        assertEquals(40, input.totalAmount());
+        DistributionSummary output = registry.get("rle.encode.output.length").tags("api", "single", "format", "classic").summary();
+        assertEquals(24, output.totalAmount());
+        assertEquals(0.6, registry.get("rle.encode.compression.ratio").tags("api", "single", "format", "classic").summary().mean(), 1e-9);
+        assertEquals(12, registry.get("rle.encode.runs").tags("api", "single", "format", "classic").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should record streams and batches under their own tags")
+    void shouldRecordStreamsAndBatchesUnderTheirOwnTags() throws Exception {
+        lengthEncoding.encode(new StringReader("xxxyy"), new StringWriter(), EncodingFormat.ESCAPED);
+        lengthEncoding.encodeAll(new String[]{"aa", "b"}, new String[2]);
+
+        assertEquals(1, calls("stream", "escaped"));
+        assertEquals(5, registry.get("rle.encode.input.length").tags("api", "stream", "format", "escaped").summary().totalAmount());
+        assertEquals(4, registry.get("rle.encode.output.length").tags("api", "stream", "format", "escaped").summary().totalAmount());
+        assertEquals(1, calls("batch", "classic"));
+        assertEquals(3, registry.get("rle.encode.input.length").tags("api", "batch", "format", "classic").summary().totalAmount());
+        assertNotNull(registry.get("rle.encode.splits").functionCounter());
+    }
+
+    @Test
+    @DisplayName("Should count every call but sample distributions")
+    void shouldCountEveryCallButSampleDistributions() {
+        EncodingProperties properties = new EncodingProperties();
+        properties.getMetrics().setSampleRate(1_000_000);
+        SimpleMeterRegistry sampledRegistry = new SimpleMeterRegistry();
+        LengthEncodingService sampled = new LengthEncodingService(properties, sampledRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            sampled.encode("abc");
+        }
+
+        FunctionCounter counter = sampledRegistry.get("rle.encode.calls").tags("api", "single", "format", "classic")
+            .functionCounter();
+        assertEquals(100, counter.count());
+        Timer latency = sampledRegistry.get("rle.encode.latency").tags("api", "single", "format", "classic").timer();
+        assertTrue(latency.count() < 100);
+    }
+
+    @Test
+    @DisplayName("Should record nothing when metrics are disabled")
+    void shouldRecordNothingWhenMetricsAreDisabled() {
+        EncodingProperties properties = new EncodingProperties();
+        properties.getMetrics().setEnabled(false);
+        SimpleMeterRegistry unusedRegistry = new SimpleMeterRegistry();
+
+        new LengthEncodingService(properties, unusedRegistry).encode("abc");
+
+        assertTrue(unusedRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should emit JFR events only for large encodes")
+    void shouldEmitJfrEventsOnlyForLargeEncodes(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("encode.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.ssctech.rle.LargeEncode");
+            recording.start();
+            lengthEncoding.encode("a".repeat(999));
+            lengthEncoding.encode("a".repeat(1_500) + "b", EncodingFormat.ESCAPED);
+            lengthEncoding.encode(new StringReader("c".repeat(2_000)), new StringWriter());
+            lengthEncoding.encode(new StringReader("d".repeat(10)), new StringWriter());
+            lengthEncoding.encodeAll(new String[]{"e".repeat(10)}, new String[1]);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.ssctech.rle.LargeEncode"))
+            .toList();
+        assertEquals(2, events.size());
+        assertEquals("single", events.get(0).getString("api"));
+        assertEquals("ESCAPED", events.get(0).getString("format"));
+        assertEquals(1_501, events.get(0).getLong("inputLength"));
+        assertEquals(7, events.get(0).getLong("outputLength"));
+        assertEquals("stream", events.get(1).getString("api"));
+        assertEquals(2_000, events.get(1).getLong("inputLength"));
+    }
+
+    private double calls(String api, String format) {
+        return registry.get("rle.encode.calls").tags("api", api, "format", format).functionCounter().count();
+    }
+}
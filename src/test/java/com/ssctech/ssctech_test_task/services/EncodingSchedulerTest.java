@@ -0,0 +1,121 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodingScheduler Tests")
+class EncodingSchedulerTest {
+
+    private static LengthEncodingService service(int laneThreshold, int sliceSize) {
+        EncodingProperties properties = new EncodingProperties();
+        properties.getAsync().setThreads(2);
+        properties.getAsync().setLargeThreads(1);
+        properties.getAsync().setLaneThreshold(laneThreshold);
+        properties.getAsync().setSliceSize(sliceSize);
+        return new LengthEncodingService(properties);
+    }
+
+    private static CharSequence repeated(char symbol, int length, CountDownLatch gate) {
+        return new CharSequence() {
+            @Override
+            public int length() {
+                return length;
+            }
+
+            @Override
+            public char charAt(int index) {
+                if (index == 0 && gate != null) {
+                    try {
+                        assertTrue(gate.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return symbol;
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should encode large inputs across slices exactly like the synchronous encode")
+    void shouldEncodeLargeInputsAcrossSlicesExactlyLikeTheSynchronousEncode() throws Exception {
+        LengthEncodingService service = service(100, 1_000);
+        Random random = new Random(20);
+        StringBuilder input = new StringBuilder();
+        while (input.length() < 50_000) {
+            input.repeat("ab1\\".charAt(random.nextInt(4)), 1 + random.nextInt(700));
+        }
+
+        for (EncodingFormat format : EncodingFormat.values()) {
+            assertEquals(service.encode(input, format), service.encodeAsync(input, format).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Should complete small requests while the large lane is blocked")
+    void shouldCompleteSmallRequestsWhileTheLargeLaneIsBlocked() throws Exception {
+        LengthEncodingService service = service(1_000, 10_000);
+        CountDownLatch gate = new CountDownLatch(1);
+        CompletableFuture<String> large = service.encodeAsync(repeated('x', 1_000_000, gate));
+
+        List<CompletableFuture<String>> small = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            small.add(service.encodeAsync("key-" + i));
+        }
+        for (int i = 0; i < small.size(); i++) {
+            assertEquals(service.encode("key-" + i), small.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertFalse(large.isDone());
+
+        gate.countDown();
+        assertEquals("x1000000", large.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should let a later large job finish before an earlier huge one")
+    void shouldLetALaterLargeJobFinishBeforeAnEarlierHugeOne() throws Exception {
+        LengthEncodingService service = service(1_000, 4_096);
+        CompletableFuture<String> huge = service.encodeAsync(repeated('h', 1 << 25, null));
+        char[] later = new char[10_000];
+        Arrays.fill(later, 'l');
+
+        assertEquals("l10000", service.encodeAsync(new String(later)).get(10, TimeUnit.SECONDS));
+        assertFalse(huge.isDone());
+        huge.cancel(true);
+    }
+
+    @Test
+    @DisplayName("Should admit requests by input plus worst-case output bytes")
+    void shouldAdmitRequestsByInputPlusWorstCaseOutputBytes() throws Exception {
+        EncodingProperties properties = new EncodingProperties();
+        properties.getAsync().setMaxInFlightBytes(1_000);
+        LengthEncodingService service = new LengthEncodingService(properties);
+
+        // 100 chars: 200 bytes of input and at most 400 of classic output.
+        assertEquals("a100", service.encodeAsync("a".repeat(100)).get(5, TimeUnit.SECONDS));
+        // 120 escaped chars: 240 bytes of input and at most 720 of output.
+        assertEquals("a120", service.encodeAsync("a".repeat(120), EncodingFormat.ESCAPED).get(5, TimeUnit.SECONDS));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+            () -> service.encodeAsync("a".repeat(200)).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+    }
+}
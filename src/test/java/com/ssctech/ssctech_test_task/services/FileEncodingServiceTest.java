@@ -0,0 +1,82 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FileEncodingService Tests")
+class FileEncodingServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private final LengthEncoding lengthEncoding = new LengthEncodingService();
+
+    @Test
+    @DisplayName("Should encode file contents")
+    void shouldEncodeFileContents() throws IOException {
+        Path input = Files.writeString(directory.resolve("in.txt"), "wwwwaaadexxxxxx", StandardCharsets.ISO_8859_1);
+        Path output = directory.resolve("out.rle");
+
+        long written = new FileEncodingService().encode(input, output);
+
+        assertEquals("w4a3d1e1x6", Files.readString(output, StandardCharsets.ISO_8859_1));
+        assertEquals(10, written);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should match in-memory byte encoding across window and buffer boundaries")
+    @EnumSource(EncodingFormat.class)
+    void shouldMatchInMemoryByteEncodingAcrossWindowAndBufferBoundaries(EncodingFormat format) throws IOException {
+        Random random = new Random(7);
+        byte[] content = new byte[50_000];
+        int position = 0;
+        while (position < content.length) {
+            int end = Math.min(content.length, position + 1 + random.nextInt(random.nextBoolean() ? 3 : 400));
+            Arrays.fill(content, position, end, (byte) ("ab1\\ÿ".charAt(random.nextInt(5))));
+            position = end;
+        }
+        Path input = Files.write(directory.resolve("in.bin"), content);
+        Path output = directory.resolve("out.rle");
+
+        FileEncodingService service = new FileEncodingService(RunScanner.create(true), 1000, 64);
+        long written = service.encode(input, output, format);
+
+        String expected = lengthEncoding.encode(content, format);
+        assertEquals(expected, Files.readString(output, StandardCharsets.ISO_8859_1));
+        assertEquals(expected.length(), written);
+    }
+
+    @Test
+    @DisplayName("Should encode empty file to empty output")
+    void shouldEncodeEmptyFileToEmptyOutput() throws IOException {
+        Path input = Files.createFile(directory.resolve("empty.txt"));
+        Path output = Files.writeString(directory.resolve("out.rle"), "stale");
+
+        assertEquals(0, new FileEncodingService().encode(input, output));
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    @DisplayName("Should reject encoding a file into itself")
+    void shouldRejectEncodingAFileIntoItself() throws IOException {
+        Path file = Files.writeString(directory.resolve("same.txt"), "aaa");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new FileEncodingService().encode(file, file));
+        assertEquals("Input and output must be different files", exception.getMessage());
+        assertEquals("aaa", Files.readString(file));
+    }
+}
@@ -1,9 +1,25 @@
 package com.ssctech.ssctech_test_task.services;
 
+import com.ssctech.ssctech_test_task.config.EncodingProperties;
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.services.codec.VarintRunLengthCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -268,6 +284,562 @@ class LengthEncodingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Copy-Free Input Tests")
+    class CopyFreeInputTests {
+
+        @Test
+        @DisplayName("Should encode string builders and char buffers")
+        void shouldEncodeStringBuildersAndCharBuffers() {
+            StringBuilder builder = new StringBuilder("aaabbc");
+            CharBuffer buffer = CharBuffer.wrap("xxaaabbcyy");
+            buffer.position(2).limit(8);
+
+            assertEquals("a3b2c1", lengthEncoding.encode(builder));
+            assertEquals("a3b2c1", lengthEncoding.encode(buffer));
+            assertEquals(2, buffer.position(), "Buffer position should not change");
+        }
+
+        @Test
+        @DisplayName("Should encode custom char sequences")
+        void shouldEncodeCustomCharSequences() {
+            CharSequence sequence = new StringBuffer("wwwwaaadexxxxxx").subSequence(0, 15);
+
+            assertEquals("w4a3d1e1x6", lengthEncoding.encode(sequence));
+        }
+
+        @Test
+        @DisplayName("Should carry runs across window boundaries")
+        void shouldCarryRunsAcrossWindowBoundaries() {
+            StringBuilder input = new StringBuilder()
+                .append("a".repeat(8190)).append("bbbb").append("c".repeat(30000)).append("1".repeat(5));
+
+            assertEquals(lengthEncoding.encode(input.toString().toCharArray(), EncodingFormat.ESCAPED),
+                lengthEncoding.encode(input, EncodingFormat.ESCAPED));
+            assertEquals("a8190b4c3000015", lengthEncoding.encode(input));
+        }
+
+        @Test
+        @DisplayName("Should encode Latin-1 bytes")
+        void shouldEncodeLatin1Bytes() {
+            byte[] input = "aaaññü".getBytes(StandardCharsets.ISO_8859_1);
+
+            assertEquals("a3ñ2ü1", lengthEncoding.encode(input));
+            assertEquals("ÿ2", lengthEncoding.encode(new byte[]{(byte) 0xFF, (byte) 0xFF}));
+        }
+
+        @Test
+        @DisplayName("Should encode heap, direct and read-only byte buffers")
+        void shouldEncodeHeapDirectAndReadOnlyByteBuffers() {
+            byte[] bytes = ("--" + "a".repeat(100) + "bbbc" + "--").getBytes(StandardCharsets.US_ASCII);
+            ByteBuffer heap = ByteBuffer.wrap(bytes, 2, 104).slice();
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().position(2).limit(106);
+            ByteBuffer readOnly = ByteBuffer.wrap(bytes).position(2).limit(106).asReadOnlyBuffer();
+
+            assertEquals("a100b3c1", lengthEncoding.encode(heap));
+            assertEquals("a100b3c1", lengthEncoding.encode(direct));
+            assertEquals("a100b3c1", lengthEncoding.encode(readOnly));
+            assertEquals(2, direct.position(), "Buffer position should not change");
+        }
+
+        @Test
+        @DisplayName("Should handle empty and null byte inputs")
+        void shouldHandleEmptyAndNullByteInputs() {
+            assertEquals("", lengthEncoding.encode(new byte[0]));
+            assertEquals("", lengthEncoding.encode(ByteBuffer.allocateDirect(0)));
+            assertEquals("", lengthEncoding.encode(new StringBuilder()));
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encode((byte[]) null));
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encode((ByteBuffer) null));
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encode((CharSequence) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Encode Into Tests")
+    class EncodeIntoTests {
+
+        @Test
+        @DisplayName("Should encode a slice into a caller-supplied buffer")
+        void shouldEncodeASliceIntoACallerSuppliedBuffer() {
+            char[] input = "xxaaabbbbcy".toCharArray();
+            char[] output = new char[16];
+            Arrays.fill(output, '#');
+
+            int written = lengthEncoding.encodeInto(input, 2, 8, output, 3);
+
+            assertEquals(6, written);
+            assertEquals("###a3b4c1#", new String(output, 0, 10));
+        }
+
+        @Test
+        @DisplayName("Should report the exact encoded length")
+        void shouldReportTheExactEncodedLength() {
+            char[] input = "aaaaaaaaaaaab1\\".toCharArray();
+
+            assertEquals(lengthEncoding.encode(input).length(),
+                lengthEncoding.encodedLength(input, 0, input.length));
+            assertEquals(lengthEncoding.encode(input, EncodingFormat.ESCAPED).length(),
+                lengthEncoding.encodedLength(input, 0, input.length, EncodingFormat.ESCAPED));
+            assertEquals(0, lengthEncoding.encodedLength(input, 4, 0));
+        }
+
+        @Test
+        @DisplayName("Should match String encoding for both formats")
+        void shouldMatchStringEncodingForBothFormats() {
+            Random random = new Random(9);
+            char[] input = new char[5_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = "ab1\\".charAt(random.nextInt(4));
+            }
+
+            for (EncodingFormat format : EncodingFormat.values()) {
+                char[] output = new char[lengthEncoding.encodedLength(input, 0, input.length, format)];
+                int written = lengthEncoding.encodeInto(input, 0, input.length, output, 0, format);
+                assertEquals(output.length, written);
+                assertEquals(lengthEncoding.encode(input, format), new String(output));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject an output buffer that is too small")
+        void shouldRejectAnOutputBufferThatIsTooSmall() {
+            char[] input = "aaaaaaaaaab".toCharArray();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> lengthEncoding.encodeInto(input, 0, input.length, new char[4], 0));
+            assertEquals("Output buffer is too small for the encoded value", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid ranges and null arguments")
+        void shouldRejectInvalidRangesAndNullArguments() {
+            char[] input = "abc".toCharArray();
+            char[] output = new char[8];
+
+            assertThrows(IndexOutOfBoundsException.class, () -> lengthEncoding.encodeInto(input, 2, 2, output, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> lengthEncoding.encodeInto(input, 0, 3, output, 9));
+            assertThrows(IndexOutOfBoundsException.class, () -> lengthEncoding.encodedLength(input, -1, 1));
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encodeInto(null, 0, 0, output, 0));
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encodeInto(input, 0, 3, null, 0));
+        }
+
+        @Test
+        @DisplayName("Should encode the same way with the buffer pool disabled")
+        void shouldEncodeTheSameWayWithTheBufferPoolDisabled() {
+            EncodingProperties properties = new EncodingProperties();
+            properties.getPool().setEnabled(false);
+            LengthEncodingService unpooled = new LengthEncodingService(properties);
+            String input = "aaabccdddd".repeat(10_000);
+
+            assertEquals(lengthEncoding.encode(input), unpooled.encode(input));
+            assertEquals(lengthEncoding.encode("a1\\b", EncodingFormat.ESCAPED),
+                unpooled.encode("a1\\b", EncodingFormat.ESCAPED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Encoding Tests")
+    class BatchEncodingTests {
+
+        @Test
+        @DisplayName("Should encode a list in input order")
+        void shouldEncodeAListInInputOrder() {
+            List<String> result = lengthEncoding.encodeAll(List.of("aaab", "", "wwwwaaadexxxxxx", "z"));
+
+            assertEquals(List.of("a3b1", "", "w4a3d1e1x6", "z1"), result);
+        }
+
+        @Test
+        @DisplayName("Should encode an array into an output array and in place")
+        void shouldEncodeAnArrayIntoAnOutputArrayAndInPlace() {
+            String[] inputs = {"a11", "bb\\"};
+            String[] output = new String[2];
+
+            lengthEncoding.encodeAll(inputs, output, EncodingFormat.ESCAPED);
+            assertArrayEquals(new String[]{"a1\\12", "b2\\\\1"}, output);
+
+            lengthEncoding.encodeAll(inputs, inputs);
+            assertArrayEquals(new String[]{"a112", "b2\\1"}, inputs);
+        }
+
+        @Test
+        @DisplayName("Should split large batches into slices without changing the results")
+        void shouldSplitLargeBatchesIntoSlicesWithoutChangingTheResults() {
+            EncodingProperties properties = new EncodingProperties();
+            properties.getParallel().setBatchSliceSize(7);
+            LengthEncodingService sliced = new LengthEncodingService(properties);
+
+            Random random = new Random(11);
+            String[] inputs = new String[5_000];
+            for (int i = 0; i < inputs.length; i++) {
+                StringBuilder key = new StringBuilder();
+                int length = random.nextInt(i % 100 == 0 ? 2_000 : 200);
+                for (int j = 0; j < length; j++) {
+                    key.append("ab1".charAt(random.nextInt(random.nextBoolean() ? 1 : 3)));
+                }
+                inputs[i] = key.toString();
+            }
+
+            for (EncodingFormat format : EncodingFormat.values()) {
+                String[] output = new String[inputs.length];
+                sliced.encodeAll(inputs, output, format);
+                for (int i = 0; i < inputs.length; i++) {
+                    assertEquals(lengthEncoding.encode(inputs[i], format), output[i], "Mismatch at index " + i);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject null batches, null elements and mismatched output arrays")
+        void shouldRejectNullBatchesNullElementsAndMismatchedOutputArrays() {
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encodeAll((List<String>) null));
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encodeAll(Arrays.asList("a", null)));
+            assertThrows(IllegalArgumentException.class, () -> lengthEncoding.encodeAll(new String[1], new String[1]));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> lengthEncoding.encodeAll(new String[]{"a"}, new String[2]));
+            assertEquals("Output array length must match the input count", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary Encoding Tests")
+    class BinaryEncodingTests {
+
+        @Test
+        @DisplayName("Should round trip through the default binary codec")
+        void shouldRoundTripThroughTheDefaultBinaryCodec() {
+            String input = "w".repeat(1000) + "aaadexxxxxx1112";
+
+            byte[] encoded = lengthEncoding.encodeBinary(input);
+
+            assertEquals(input, lengthEncoding.decodeBinary(encoded));
+            assertTrue(encoded.length < lengthEncoding.encode(input).length());
+        }
+
+        @Test
+        @DisplayName("Should encode into byte buffer")
+        void shouldEncodeIntoByteBuffer() {
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+
+            int written = lengthEncoding.encodeBinary("aaabbc", buffer, VarintRunLengthCodec.LATIN1);
+
+            assertEquals(6, written);
+            assertEquals("aaabbc", lengthEncoding.decodeBinary(buffer.flip(), VarintRunLengthCodec.LATIN1));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null codec")
+        void shouldThrowExceptionForNullCodec() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> lengthEncoding.encodeBinary("abc", null));
+            assertEquals("Codec must not be null", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming Encoding Tests")
+    class StreamingEncodingTests {
+
+        @Test
+        @DisplayName("Should encode reader into appendable")
+        void shouldEncodeReaderIntoAppendable() throws IOException {
+            StringBuilder output = new StringBuilder();
+
+            lengthEncoding.encode(new StringReader("aaaabbbccccccdd"), output);
+
+            assertEquals("a4b3c6d2", output.toString());
+        }
+
+        @Test
+        @DisplayName("Should encode empty reader to nothing")
+        void shouldEncodeEmptyReaderToNothing() throws IOException {
+            StringWriter output = new StringWriter();
+
+            lengthEncoding.encode(new StringReader(""), output);
+
+            assertEquals("", output.toString());
+        }
+
+        @Test
+        @DisplayName("Should carry runs across buffer boundaries")
+        void shouldCarryRunsAcrossBufferBoundaries() throws IOException {
+            String input = "a".repeat(8191) + "b".repeat(3) + "c".repeat(20000) + "d";
+            StringWriter output = new StringWriter();
+
+            lengthEncoding.encode(new StringReader(input), output);
+
+            assertEquals(lengthEncoding.encode(input), output.toString());
+            assertEquals("a8191b3c20000d1", output.toString());
+        }
+
+        @Test
+        @DisplayName("Should match in-memory encoding when reader returns short reads")
+        void shouldMatchInMemoryEncodingWhenReaderReturnsShortReads() throws IOException {
+            String input = "xxxyyyyzzzzzzz\n\n".repeat(500);
+            StringBuilder output = new StringBuilder();
+
+            lengthEncoding.encode(new OneCharReader(input), output);
+
+            assertEquals(lengthEncoding.encode(input), output.toString());
+        }
+
+        @Test
+        @DisplayName("Should encode long run without materializing input")
+        void shouldEncodeLongRunWithoutMaterializingInput() throws IOException {
+            StringBuilder output = new StringBuilder();
+
+            lengthEncoding.encode(new RepeatingReader('q', 50_000_000L), output);
+
+            assertEquals("q50000000", output.toString());
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null reader or appendable")
+        void shouldThrowExceptionForNullReaderOrAppendable() {
+            IllegalArgumentException readerException = assertThrows(IllegalArgumentException.class,
+                    () -> lengthEncoding.encode((Reader) null, new StringBuilder()));
+            IllegalArgumentException outputException = assertThrows(IllegalArgumentException.class,
+                    () -> lengthEncoding.encode(new StringReader("a"), null));
+
+            assertEquals("Input must not be null", readerException.getMessage());
+            assertEquals("Output must not be null", outputException.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Escaped Format Tests")
+    class EscapedFormatTests {
+
+        @Test
+        @DisplayName("Should escape digit symbols")
+        void shouldEscapeDigitSymbols() {
+            char[] input = {'1', '1', '1', '2', '3', '3'};
+
+            String result = lengthEncoding.encode(input, EncodingFormat.ESCAPED);
+
+            assertEquals("\\13\\21\\32", result);
+        }
+
+        @Test
+        @DisplayName("Should escape the escape character")
+        void shouldEscapeTheEscapeCharacter() {
+            String result = lengthEncoding.encode("a\\\\b", EncodingFormat.ESCAPED);
+
+            assertEquals("a1\\\\2b1", result);
+        }
+
+        @Test
+        @DisplayName("Should match classic output for input without digits")
+        void shouldMatchClassicOutputForInputWithoutDigits() {
+            String input = "aa bb\tcc!!";
+
+            assertEquals(lengthEncoding.encode(input), lengthEncoding.encode(input, EncodingFormat.ESCAPED));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null format")
+        void shouldThrowExceptionForNullFormat() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> lengthEncoding.encode("abc", null));
+            assertEquals("Format must not be null", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Decoding Tests")
+    class DecodingTests {
+
+        @Test
+        @DisplayName("Should decode classic format")
+        void shouldDecodeClassicFormat() {
+            assertEquals("aaaabbbccccccdd", lengthEncoding.decode("a4b3c6d2"));
+            assertArrayEquals("aaabbc".toCharArray(), lengthEncoding.decode("a3b2c1".toCharArray()));
+        }
+
+        @Test
+        @DisplayName("Should decode multi-digit counts")
+        void shouldDecodeMultiDigitCounts() {
+            assertEquals("x".repeat(100000), lengthEncoding.decode("x100000"));
+        }
+
+        @Test
+        @DisplayName("Should decode empty input")
+        void shouldDecodeEmptyInput() {
+            assertEquals("", lengthEncoding.decode(""));
+            assertArrayEquals(new char[0], lengthEncoding.decode(new char[0]));
+        }
+
+        @ParameterizedTest
+        @DisplayName("Should round trip any input in escaped format")
+        @ValueSource(strings = {
+            "111233",
+            "a1b22c333",
+            "\\\\\\1\\",
+            "2024-01-01T00:00:00Z",
+            "ñññüü  \n\n\t",
+            "A"
+        })
+        void shouldRoundTripAnyInputInEscapedFormat(String input) throws IOException {
+            String encoded = lengthEncoding.encode(input, EncodingFormat.ESCAPED);
+            StringBuilder streamed = new StringBuilder();
+            lengthEncoding.decode(new StringReader(encoded), streamed, EncodingFormat.ESCAPED);
+
+            assertEquals(input, lengthEncoding.decode(encoded, EncodingFormat.ESCAPED));
+            assertArrayEquals(input.toCharArray(), lengthEncoding.decode(encoded.toCharArray(), EncodingFormat.ESCAPED));
+            assertEquals(input, streamed.toString());
+        }
+
+        @Test
+        @DisplayName("Should stream decode runs larger than the buffer")
+        void shouldStreamDecodeRunsLargerThanTheBuffer() throws IOException {
+            String input = "a".repeat(20000) + "b" + "c".repeat(8192);
+            StringWriter output = new StringWriter();
+
+            lengthEncoding.decode(new OneCharReader(lengthEncoding.encode(input)), output, EncodingFormat.CLASSIC);
+
+            assertEquals(input, output.toString());
+        }
+
+        @ParameterizedTest
+        @DisplayName("Should reject malformed input")
+        @ValueSource(strings = {"a", "ab2", "a0", "3a", "a99999999999", "\\"})
+        void shouldRejectMalformedInput(String encoded) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> lengthEncoding.decode(encoded, EncodingFormat.ESCAPED));
+            assertEquals("Input format is invalid", exception.getMessage());
+            assertThrows(IllegalArgumentException.class,
+                    () -> lengthEncoding.decode(new StringReader(encoded), new StringBuilder(), EncodingFormat.ESCAPED));
+        }
+
+        @Test
+        @DisplayName("Should reject decoded length beyond array limit")
+        void shouldRejectDecodedLengthBeyondArrayLimit() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> lengthEncoding.decode("a2147483647b2147483647"));
+            assertEquals("Decoded output exceeds the maximum array size", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Encoding Tests")
+    class ParallelEncodingTests {
+
+        private LengthEncodingService sequential;
+        private LengthEncodingService parallel;
+
+        @BeforeEach
+        void setUp() {
+            EncodingProperties sequentialProperties = new EncodingProperties();
+            sequentialProperties.getParallel().setEnabled(false);
+            sequential = new LengthEncodingService(sequentialProperties);
+
+            EncodingProperties parallelProperties = new EncodingProperties();
+            parallelProperties.getParallel().setThreshold(64);
+            parallelProperties.getParallel().setChunkSize(16);
+            parallel = new LengthEncodingService(parallelProperties);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Should match sequential encoding for random run lengths")
+        @ValueSource(ints = {1, 3, 16, 40, 1000})
+        void shouldMatchSequentialEncodingForRandomRunLengths(int maxRunLength) {
+            Random random = new Random(maxRunLength);
+
+            for (int round = 0; round < 20; round++) {
+                char[] input = randomRuns(random, 64 + random.nextInt(5000), maxRunLength);
+
+                assertEquals(sequential.encode(input), parallel.encode(input));
+                assertEquals(sequential.encode(input, EncodingFormat.ESCAPED),
+                        parallel.encode(input, EncodingFormat.ESCAPED));
+            }
+        }
+
+        @Test
+        @DisplayName("Should merge a run spanning every chunk")
+        void shouldMergeARunSpanningEveryChunk() {
+            char[] input = new char[10_000];
+            Arrays.fill(input, 'z');
+
+            assertEquals("z10000", parallel.encode(input));
+        }
+
+        @Test
+        @DisplayName("Should stitch runs that end exactly on chunk boundaries")
+        void shouldStitchRunsThatEndExactlyOnChunkBoundaries() {
+            String input = "a".repeat(16) + "b".repeat(16) + "a".repeat(16) + "a".repeat(16) + "c";
+
+            assertEquals("a16b16a32c1", parallel.encode(input));
+            assertEquals(sequential.encode(input), parallel.encode(input));
+        }
+
+        @Test
+        @DisplayName("Should leave inputs below the threshold on the sequential path")
+        void shouldLeaveInputsBelowTheThresholdOnTheSequentialPath() {
+            assertEquals("a3b3c3", parallel.encode("aaabbbccc"));
+        }
+
+        private char[] randomRuns(Random random, int length, int maxRunLength) {
+            char[] input = new char[length];
+            int position = 0;
+            while (position < length) {
+                int end = Math.min(length, position + 1 + random.nextInt(maxRunLength));
+                Arrays.fill(input, position, end, (char) ('0' + random.nextInt(4)));
+                position = end;
+            }
+            return input;
+        }
+    }
+
+    private static final class OneCharReader extends Reader {
+
+        private final String source;
+        private int position;
+
+        OneCharReader(String source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == source.length()) {
+                return -1;
+            }
+            buffer[offset] = source.charAt(position++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class RepeatingReader extends Reader {
+
+        private final char character;
+        private long remaining;
+
+        RepeatingReader(char character, long length) {
+            this.character = character;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            Arrays.fill(buffer, offset, offset + count, character);
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     @Nested
     @DisplayName("Performance and Stress Tests")
     class PerformanceAndStressTests {
@@ -183,6 +183,23 @@ class LengthEncodingTest {
                 "Both methods should produce identical results for: " + testCase);
         }
 
+        @ParameterizedTest
+        @DisplayName("Decode should reverse encode for digit-free input")
+        @ValueSource(strings = {
+            "aaabbbcccddd",
+            "abcdefghijklmnopqrstuvwxyz",
+            "!@#$%^&*()",
+            "   \t\n\r"
+        })
+        void decodeShouldReverseEncodeForDigitFreeInput(String testCase) {
+            String encoded = lengthEncoding.encode(testCase);
+
+            assertEquals(testCase, lengthEncoding.decode(encoded),
+                "Decoding should restore the original input for: " + testCase);
+            assertArrayEquals(testCase.toCharArray(), lengthEncoding.decode(encoded.toCharArray()),
+                "Char array decoding should restore the original input for: " + testCase);
+        }
+
         @Test
         @DisplayName("Performance should be consistent between methods")
         void performanceShouldBeConsistentBetweenMethods() {
@@ -0,0 +1,90 @@
+package com.ssctech.ssctech_test_task.services;
+
+import com.ssctech.ssctech_test_task.constants.config.EncodingFormat;
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RunLengthEncoder Tests")
+class RunLengthEncoderTest {
+
+    private final LengthEncodingService service = new LengthEncodingService();
+
+    @ParameterizedTest
+    @EnumSource(EncodingFormat.class)
+    @DisplayName("Should match the one-shot encoding for pieces split inside runs")
+    void shouldMatchTheOneShotEncodingForPiecesSplitInsideRuns(EncodingFormat format) {
+        Random random = new Random(15);
+        RunLengthEncoder encoder = new RunLengthEncoder(format);
+        StringBuilder appended = new StringBuilder();
+
+        for (int piece = 0; piece < 500; piece++) {
+            StringBuilder chunk = new StringBuilder();
+            int runs = random.nextInt(4);
+            for (int run = 0; run < runs; run++) {
+                chunk.repeat("ab1\\".charAt(random.nextInt(4)), 1 + random.nextInt(12));
+            }
+            switch (piece % 3) {
+                case 0 -> encoder.append(chunk);
+                case 1 -> encoder.append(chunk.toString().toCharArray(), 0, chunk.length());
+                default -> chunk.chars().forEach(c -> encoder.append((char) c));
+            }
+            appended.append(chunk);
+
+            assertEquals(appended.length(), encoder.length());
+        }
+
+        assertEquals(service.encode(appended.toString(), format), encoder.finish());
+    }
+
+    @Test
+    @DisplayName("Should keep earlier snapshots unchanged while the trailing run grows")
+    void shouldKeepEarlierSnapshotsUnchangedWhileTheTrailingRunGrows() {
+        RunLengthEncoder encoder = new RunLengthEncoder().append("aab");
+        EncodedText first = encoder.snapshot();
+
+        encoder.append("bbb");
+        EncodedText second = encoder.snapshot();
+        encoder.append("cc").append('c');
+
+        assertEquals("aab", first.decode());
+        assertEquals("a2b1", first.encode(EncodingFormat.CLASSIC));
+        assertEquals('b', first.charAt(2));
+        assertEquals("aabbbb", second.decode());
+        assertEquals("a2b4c3", encoder.snapshot().encode(EncodingFormat.CLASSIC));
+    }
+
+    @Test
+    @DisplayName("Should split runs longer than the maximum count like the one-shot encoding")
+    void shouldSplitLongRunsLikeTheOneShotEncoding() {
+        char[] block = new char[1 << 20];
+        Arrays.fill(block, 'x');
+        RunLengthEncoder encoder = new RunLengthEncoder();
+        for (int i = 0; i < 2049; i++) {
+            encoder.append(block, 0, block.length);
+        }
+
+        assertEquals(2049L << 20, encoder.length());
+        assertEquals("x" + Integer.MAX_VALUE + "x" + ((2049L << 20) - Integer.MAX_VALUE), encoder.finish());
+    }
+
+    @Test
+    @DisplayName("Should reject appends after finish and invalid arguments")
+    void shouldRejectAppendsAfterFinishAndInvalidArguments() {
+        RunLengthEncoder encoder = new RunLengthEncoder();
+        assertEquals("", encoder.finish());
+
+        IllegalStateException finished = assertThrows(IllegalStateException.class, () -> encoder.append('a'));
+        assertEquals(ValidationError.ENCODER_FINISHED.getMessage(), finished.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new RunLengthEncoder(null));
+        assertThrows(IllegalArgumentException.class, () -> new RunLengthEncoder().append((CharSequence) null));
+        assertThrows(IndexOutOfBoundsException.class, () -> new RunLengthEncoder().append(new char[2], 1, 2));
+    }
+}
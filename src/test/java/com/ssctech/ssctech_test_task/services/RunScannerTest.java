@@ -0,0 +1,92 @@
+package com.ssctech.ssctech_test_task.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RunScanner Tests")
+class RunScannerTest {
+
+    private final RunScanner vector = RunScanner.create(true);
+    private final RunScanner scalar = RunScanner.create(false);
+
+    @Test
+    @DisplayName("Should use the vector scanner when the incubator module is present")
+    void shouldUseTheVectorScannerWhenTheIncubatorModuleIsPresent() {
+        assertInstanceOf(VectorRunScanner.class, vector,
+            "Surefire runs with --add-modules jdk.incubator.vector");
+        assertSame(RunScanner.SCALAR, scalar);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Vector scanner should find the same run ends as the scalar scanner")
+    @ValueSource(ints = {1, 2, 7, 9, 31, 33, 100, 5000})
+    void vectorScannerShouldFindTheSameRunEndsAsTheScalarScanner(int maxRunLength) {
+        Random random = new Random(maxRunLength);
+        char[] input = new char[20_000];
+        int position = 0;
+        while (position < input.length) {
+            int end = Math.min(input.length, position + 1 + random.nextInt(maxRunLength));
+            Arrays.fill(input, position, end, (char) random.nextInt(3));
+            position = end;
+        }
+
+        for (int from = 0; from < input.length; from++) {
+            int to = Math.min(input.length, from + 1 + random.nextInt(input.length - from));
+            assertEquals(scalar.runEnd(input, from, to), vector.runEnd(input, from, to),
+                "Run end mismatch from " + from + " to " + to);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop at the range end inside a run")
+    void shouldStopAtTheRangeEndInsideARun() {
+        char[] input = new char[1000];
+        Arrays.fill(input, 'x');
+
+        assertEquals(1000, vector.runEnd(input, 0, 1000));
+        assertEquals(517, vector.runEnd(input, 3, 517));
+        assertEquals(1, vector.runEnd(input, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should treat chars differing only in the high byte as different")
+    void shouldTreatCharsDifferingOnlyInTheHighByteAsDifferent() {
+        char[] input = new char[100];
+        Arrays.fill(input, 'ａ');
+        input[64] = 'A';
+
+        assertEquals(64, vector.runEnd(input, 0, input.length));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Vector scanner should find the same byte run ends as the scalar scanner")
+    @ValueSource(ints = {1, 9, 65, 5000})
+    void vectorScannerShouldFindTheSameByteRunEndsAsTheScalarScanner(int maxRunLength) {
+        Random random = new Random(maxRunLength);
+        byte[] input = new byte[20_000];
+        int position = 0;
+        while (position < input.length) {
+            int end = Math.min(input.length, position + 1 + random.nextInt(maxRunLength));
+            Arrays.fill(input, position, end, (byte) (random.nextInt(3) - 1));
+            position = end;
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(input.length).put(input);
+
+        for (int from = 0; from < input.length; from++) {
+            int to = Math.min(input.length, from + 1 + random.nextInt(input.length - from));
+            int expected = scalar.runEnd(input, from, to);
+            assertEquals(expected, vector.runEnd(input, from, to),
+                "Run end mismatch from " + from + " to " + to);
+            assertEquals(expected, vector.runEnd(direct, from, to),
+                "Buffer run end mismatch from " + from + " to " + to);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.services.CodecRegistry;
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HuffmanRunLengthCodec Tests")
+class HuffmanRunLengthCodecTest {
+
+    private static String skewedRuns(Random random, int length) {
+        StringBuilder input = new StringBuilder(length);
+        while (input.length() < length) {
+            int pick = random.nextInt(100);
+            char symbol = pick < 60 ? ' ' : pick < 85 ? 'e' : (char) ('a' + random.nextInt(26));
+            int run = random.nextInt(10) == 0 ? 1 + random.nextInt(5_000) : 1 + random.nextInt(4);
+            input.repeat(symbol, run);
+        }
+        return input.toString();
+    }
+
+    @Nested
+    @DisplayName("UTF-8 Codec Tests")
+    class Utf8CodecTests {
+
+        private final RunLengthCodec codec = HuffmanRunLengthCodec.UTF8;
+
+        @ParameterizedTest
+        @DisplayName("Should round trip any string")
+        @ValueSource(strings = {
+            "",
+            "a",
+            "wwwwwwwwwwaaadexxxxxxxxxx",
+            "Приветжжжжжжж",
+            "😀😀😀😀😀😀x",
+            "\ud800𐀀\udc00z"
+        })
+        void shouldRoundTripAnyString(String input) {
+            byte[] encoded = codec.encode(input);
+
+            assertEquals(codec.encodedLength(input), encoded.length);
+            assertEquals(input, codec.decode(encoded));
+        }
+
+        @Test
+        @DisplayName("Should round trip long runs and wide alphabets")
+        void shouldRoundTripLongRunsAndWideAlphabets() {
+            Random random = new Random(23);
+            StringBuilder input = new StringBuilder("x".repeat(1 << 20)).append('y');
+            for (int i = 0; i < 20_000; i++) {
+                input.appendCodePoint(0x1000 + random.nextInt(0x20000));
+            }
+
+            byte[] encoded = codec.encode(input);
+            assertEquals(input.toString(), codec.decode(encoded));
+        }
+
+        @Test
+        @DisplayName("Should be much smaller than the varint codec on skewed input")
+        void shouldBeMuchSmallerThanTheVarintCodecOnSkewedInput() {
+            String input = skewedRuns(new Random(23), 1_000_000);
+
+            byte[] huffman = codec.encode(input);
+            byte[] varint = VarintRunLengthCodec.UTF8.encode(input);
+
+            assertTrue(huffman.length * 2 < varint.length, huffman.length + " vs " + varint.length);
+            assertEquals(input, codec.decode(huffman));
+        }
+
+        @Test
+        @DisplayName("Should write into a buffer only when the whole value fits")
+        void shouldWriteIntoABufferOnlyWhenTheWholeValueFits() {
+            ByteBuffer small = ByteBuffer.allocate(3);
+
+            assertThrows(BufferOverflowException.class, () -> codec.encode("abcdef", small));
+            assertEquals(0, small.position());
+        }
+
+        @Test
+        @DisplayName("Should reject truncated and altered input")
+        void shouldRejectTruncatedAndAlteredInput() {
+            byte[] encoded = codec.encode(skewedRuns(new Random(5), 2_000));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> codec.decode(Arrays.copyOf(encoded, encoded.length / 2)));
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[]{3}));
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[]{1, 2, 5, 7, 0, 0}));
+            // A symbol count near 2^31 in six bytes must fail before anything is allocated for it.
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(
+                    new byte[]{0, (byte) 0xF0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject symbols above Latin-1 in the Latin-1 codec")
+    void shouldRejectSymbolsAboveLatin1InTheLatin1Codec() {
+        assertEquals("ÿÿÿa", HuffmanRunLengthCodec.LATIN1.decode(HuffmanRunLengthCodec.LATIN1.encode("ÿÿÿa")));
+        assertThrows(IllegalArgumentException.class, () -> HuffmanRunLengthCodec.LATIN1.encode("Ā"));
+    }
+
+    @Test
+    @DisplayName("Should limit code lengths for steeply skewed frequencies")
+    void shouldLimitCodeLengthsForSteeplySkewedFrequencies() {
+        long[] fibonacci = new long[40];
+        fibonacci[0] = 1;
+        fibonacci[1] = 1;
+        for (int i = 2; i < fibonacci.length; i++) {
+            fibonacci[i] = fibonacci[i - 1] + fibonacci[i - 2];
+        }
+
+        CanonicalHuffman code = CanonicalHuffman.fromFrequencies(fibonacci, 15);
+
+        for (int symbol = 0; symbol < fibonacci.length; symbol++) {
+            assertTrue(code.length(symbol) >= 1 && code.length(symbol) <= 15, "symbol " + symbol);
+        }
+    }
+
+    @Test
+    @DisplayName("Should be registered and selectable through LengthEncoding")
+    void shouldBeRegisteredAndSelectableThroughLengthEncoding() {
+        LengthEncodingService service = new LengthEncodingService();
+        String input = "ABCDE" + "f".repeat(50);
+
+        byte[] encoded = service.encodeBinary(input, HuffmanRunLengthCodec.UTF8);
+
+        assertEquals(input, service.decodeBinary(encoded, HuffmanRunLengthCodec.UTF8));
+        assertSame(HuffmanRunLengthCodec.UTF8, CodecRegistry.withDefaults().codec(CodecRegistry.HUFFMAN));
+    }
+}
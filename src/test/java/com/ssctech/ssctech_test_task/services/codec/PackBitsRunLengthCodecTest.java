@@ -0,0 +1,118 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.services.LengthEncodingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PackBitsRunLengthCodec Tests")
+class PackBitsRunLengthCodecTest {
+
+    @Nested
+    @DisplayName("Latin-1 Codec Tests")
+    class Latin1CodecTests {
+
+        private final RunLengthCodec codec = PackBitsRunLengthCodec.LATIN1;
+
+        @Test
+        @DisplayName("Should store stretches without repeats as one literal block")
+        void shouldStoreStretchesWithoutRepeatsAsOneLiteralBlock() {
+            assertArrayEquals(new byte[]{10, 'A', 'B', 'C', 'D', 'E'}, codec.encode("ABCDE"));
+        }
+
+        @Test
+        @DisplayName("Should give long runs their own token")
+        void shouldGiveLongRunsTheirOwnToken() {
+            byte[] encoded = codec.encode("ab" + "c".repeat(300) + "dd");
+
+            assertArrayEquals(new byte[]{4, 'a', 'b', (byte) 0xD9, 0x04, 'c', 4, 'd', 'd'}, encoded);
+            assertEquals("ab" + "c".repeat(300) + "dd", codec.decode(encoded));
+        }
+
+        @Test
+        @DisplayName("Should never exceed the input length plus the maximum header")
+        void shouldNeverExceedTheInputLengthPlusTheMaximumHeader() {
+            Random random = new Random(17);
+            for (int i = 0; i < 200; i++) {
+                StringBuilder input = new StringBuilder();
+                while (input.length() < 2_000) {
+                    input.repeat((char) random.nextInt(256), 1 + random.nextInt(1 + random.nextInt(12)));
+                }
+
+                byte[] encoded = codec.encode(input);
+                assertTrue(encoded.length <= input.length() + Varint.MAX_INT_LENGTH, "length " + encoded.length);
+                assertEquals(input.toString(), codec.decode(encoded));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject truncated and empty tokens")
+        void shouldRejectTruncatedAndEmptyTokens() {
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[]{10, 'A', 'B'}));
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[]{1, 'A'}));
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(new byte[]{7}));
+        }
+    }
+
+    @Nested
+    @DisplayName("UTF-8 Codec Tests")
+    class Utf8CodecTests {
+
+        private final RunLengthCodec codec = PackBitsRunLengthCodec.UTF8;
+
+        @ParameterizedTest
+        @DisplayName("Should round trip any string")
+        @ValueSource(strings = {
+            "",
+            "wwwwwwwwwwaaadexxxxxxxxxx",
+            "Приветжжжжжжж",
+            "😀😀😀😀😀😀x",
+            "\ud800𐀀\udc00z"
+        })
+        void shouldRoundTripAnyString(String input) {
+            byte[] encoded = codec.encode(input);
+
+            assertEquals(codec.encodedLength(input), encoded.length);
+            assertEquals(input, codec.decode(encoded));
+        }
+
+        @Test
+        @DisplayName("Should bound the output by the UTF-8 length of the input")
+        void shouldBoundTheOutputByTheUtf8LengthOfTheInput() {
+            String input = "中文文本😀 mixed text";
+
+            assertTrue(codec.encode(input).length
+                    <= input.getBytes(StandardCharsets.UTF_8).length + Varint.MAX_INT_LENGTH);
+        }
+
+        @Test
+        @DisplayName("Should write into a buffer only when the whole value fits")
+        void shouldWriteIntoABufferOnlyWhenTheWholeValueFits() {
+            ByteBuffer small = ByteBuffer.allocate(3);
+
+            assertThrows(BufferOverflowException.class, () -> codec.encode("abcdef", small));
+            assertEquals(0, small.position());
+        }
+    }
+
+    @Test
+    @DisplayName("Should be selectable through LengthEncoding")
+    void shouldBeSelectableThroughLengthEncoding() {
+        LengthEncodingService service = new LengthEncodingService();
+        String input = "ABCDE" + "f".repeat(50);
+
+        byte[] encoded = service.encodeBinary(input, PackBitsRunLengthCodec.LATIN1);
+
+        assertEquals(8, encoded.length);
+        assertEquals(input, service.decodeBinary(encoded, PackBitsRunLengthCodec.LATIN1));
+    }
+}
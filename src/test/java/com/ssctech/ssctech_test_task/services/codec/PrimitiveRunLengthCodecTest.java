@@ -0,0 +1,163 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import com.ssctech.ssctech_test_task.services.codec.PrimitiveRunLengthCodec.DoubleRuns;
+import com.ssctech.ssctech_test_task.services.codec.PrimitiveRunLengthCodec.IntRuns;
+import com.ssctech.ssctech_test_task.services.codec.PrimitiveRunLengthCodec.LongRuns;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrimitiveRunLengthCodec Tests")
+class PrimitiveRunLengthCodecTest {
+
+    @Nested
+    @DisplayName("Int Tests")
+    class IntTests {
+
+        @Test
+        @DisplayName("Should split into parallel value and length arrays")
+        void shouldSplitIntoParallelValueAndLengthArrays() {
+            IntRuns runs = PrimitiveRunLengthCodec.runs(new int[]{7, 7, 7, -1, 4, 4});
+
+            assertArrayEquals(new int[]{7, -1, 4}, runs.values());
+            assertArrayEquals(new int[]{3, 1, 2}, runs.lengths());
+            assertEquals(6, runs.length());
+        }
+
+        @Test
+        @DisplayName("Should encode zigzag differences and run lengths")
+        void shouldEncodeZigzagDifferencesAndRunLengths() {
+            byte[] encoded = PrimitiveRunLengthCodec.encode(new int[]{5, 5, 5, 4, 4, 200});
+
+            assertArrayEquals(new byte[]{3, 10, 3, 1, 2, (byte) 0x88, 0x03, 1}, encoded);
+        }
+
+        @Test
+        @DisplayName("Should round trip extremes and random columns")
+        void shouldRoundTripExtremesAndRandomColumns() {
+            Random random = new Random(25);
+            int[][] inputs = {
+                {},
+                {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1},
+                random.ints(10_000, 0, 4).toArray(),
+                random.ints(10_000).sorted().map(value -> value >> 20).toArray()
+            };
+
+            for (int[] input : inputs) {
+                assertArrayEquals(input, PrimitiveRunLengthCodec.decodeInts(PrimitiveRunLengthCodec.encode(input)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should fill decoded values into an existing array")
+        void shouldFillDecodedValuesIntoAnExistingArray() {
+            IntRuns runs = new IntRuns(new int[]{1, 2}, new int[]{2, 3});
+            int[] output = new int[7];
+
+            assertEquals(5, runs.fill(output, 1));
+            assertArrayEquals(new int[]{0, 1, 1, 2, 2, 2, 0}, output);
+            assertThrows(IndexOutOfBoundsException.class, () -> runs.fill(output, 3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Long Tests")
+    class LongTests {
+
+        @Test
+        @DisplayName("Should round trip timestamps and extremes")
+        void shouldRoundTripTimestampsAndExtremes() {
+            long[] input = new long[5_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = 1_700_000_000_000L + i / 100 * 1_000L;
+            }
+            byte[] encoded = PrimitiveRunLengthCodec.encode(input);
+            long[] extremes = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, 0};
+
+            assertArrayEquals(input, PrimitiveRunLengthCodec.decodeLongs(encoded));
+            assertEquals(50, PrimitiveRunLengthCodec.decodeLongRuns(encoded).runCount());
+            assertTrue(encoded.length < 200, "Encoded length " + encoded.length);
+            assertArrayEquals(extremes, PrimitiveRunLengthCodec.decodeLongs(PrimitiveRunLengthCodec.encode(extremes)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Double Tests")
+    class DoubleTests {
+
+        @Test
+        @DisplayName("Should keep signed zeros and NaN payloads apart")
+        void shouldKeepSignedZerosAndNanPayloadsApart() {
+            double otherNaN = Double.longBitsToDouble(0x7FF8_0000_0000_0001L);
+            double[] input = {0.0, 0.0, -0.0, Double.NaN, Double.NaN, otherNaN, 1.5, 1.5};
+
+            DoubleRuns runs = PrimitiveRunLengthCodec.runs(input);
+            double[] decoded = PrimitiveRunLengthCodec.decodeDoubles(PrimitiveRunLengthCodec.encode(input));
+
+            assertArrayEquals(new int[]{2, 1, 2, 1, 2}, runs.lengths());
+            assertArrayEquals(bits(input), bits(decoded));
+        }
+
+        @Test
+        @DisplayName("Should round trip random low-cardinality columns")
+        void shouldRoundTripRandomLowCardinalityColumns() {
+            Random random = new Random(25);
+            double[] prices = {9.99, 19.99, 24.5, Double.POSITIVE_INFINITY};
+            double[] input = new double[10_000];
+            for (int i = 0; i < input.length; ) {
+                double price = prices[random.nextInt(prices.length)];
+                int end = Math.min(input.length, i + 1 + random.nextInt(20));
+                Arrays.fill(input, i, end, price);
+                i = end;
+            }
+
+            assertArrayEquals(input, PrimitiveRunLengthCodec.decodeDoubles(PrimitiveRunLengthCodec.encode(input)));
+        }
+
+        private static long[] bits(double[] values) {
+            return Arrays.stream(values).mapToLong(Double::doubleToRawLongBits).toArray();
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject null inputs and invalid runs")
+        void shouldRejectNullInputsAndInvalidRuns() {
+            assertThrows(IllegalArgumentException.class, () -> PrimitiveRunLengthCodec.encode((int[]) null));
+            assertThrows(IllegalArgumentException.class, () -> PrimitiveRunLengthCodec.decodeLongs(null));
+            assertThrows(IllegalArgumentException.class, () -> new IntRuns(new int[]{1}, new int[]{1, 2}));
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new LongRuns(new long[]{1}, new int[]{0}));
+            assertEquals("Run values and lengths must be parallel arrays of positive lengths", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject malformed encodings")
+        void shouldRejectMalformedEncodings() {
+            byte[] valid = PrimitiveRunLengthCodec.encode(new int[]{1, 1, 2});
+
+            assertThrows(IllegalArgumentException.class,
+                () -> PrimitiveRunLengthCodec.decodeInts(Arrays.copyOf(valid, valid.length - 1)));
+            assertThrows(IllegalArgumentException.class,
+                () -> PrimitiveRunLengthCodec.decodeInts(Arrays.copyOf(valid, valid.length + 1)));
+            // Run count far beyond the bytes that follow.
+            assertThrows(IllegalArgumentException.class,
+                () -> PrimitiveRunLengthCodec.decodeInts(new byte[]{(byte) 0xFF, 0x7F, 2, 1}));
+            // Zero run length.
+            assertThrows(IllegalArgumentException.class,
+                () -> PrimitiveRunLengthCodec.decodeDoubles(new byte[]{1, 2, 0}));
+            // Two runs of 2^31 - 1 values each.
+            assertThrows(IllegalArgumentException.class, () -> PrimitiveRunLengthCodec.decodeInts(new byte[]{
+                2, 2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07,
+                2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssctech.ssctech_test_task.services.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VarintRunLengthCodec Tests")
+class VarintRunLengthCodecTest {
+
+    @Nested
+    @DisplayName("Latin-1 Codec Tests")
+    class Latin1CodecTests {
+
+        private final RunLengthCodec codec = VarintRunLengthCodec.LATIN1;
+
+        @Test
+        @DisplayName("Should encode symbol and varint count per run")
+        void shouldEncodeSymbolAndVarintCountPerRun() {
+            byte[] encoded = codec.encode("aaab" + "c".repeat(300));
+
+            assertArrayEquals(new byte[]{'a', 3, 'b', 1, 'c', (byte) 0xAC, 0x02}, encoded);
+        }
+
+        @Test
+        @DisplayName("Should keep digits decodable")
+        void shouldKeepDigitsDecodable() {
+            String input = "111233";
+
+            assertEquals(input, codec.decode(codec.encode(input)));
+        }
+
+        @Test
+        @DisplayName("Should reject chars outside Latin-1")
+        void shouldRejectCharsOutsideLatin1() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> codec.encode("aЖ"));
+            assertEquals("Input contains characters the codec cannot represent", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("UTF-8 Codec Tests")
+    class Utf8CodecTests {
+
+        private final RunLengthCodec codec = VarintRunLengthCodec.UTF8;
+
+        @ParameterizedTest
+        @DisplayName("Should round trip any string")
+        @ValueSource(strings = {
+            "",
+            "wwwwaaadexxxxxx",
+            "111233",
+            "ñññüü",
+            "中中中文",
+            "😀😀😀🚀",
+            "\uD800\uD800a\uDC00",
+            "\uD83D😀"
+        })
+        void shouldRoundTripAnyString(String input) {
+            byte[] encoded = codec.encode(input);
+
+            assertEquals(codec.encodedLength(input), encoded.length);
+            assertEquals(input, codec.decode(encoded));
+        }
+
+        @Test
+        @DisplayName("Should run over code points")
+        void shouldRunOverCodePoints() {
+            byte[] encoded = codec.encode("😀😀😀");
+
+            assertArrayEquals(new byte[]{(byte) 0xF0, (byte) 0x9F, (byte) 0x98, (byte) 0x80, 3}, encoded);
+        }
+
+        @Test
+        @DisplayName("Should be smaller than textual output for unique chars")
+        void shouldBeSmallerThanTextualOutputForUniqueChars() {
+            assertEquals(10, codec.encode("abcde").length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Byte Buffer Tests")
+    class ByteBufferTests {
+
+        private final RunLengthCodec codec = VarintRunLengthCodec.UTF8;
+
+        @Test
+        @DisplayName("Should write at buffer position and decode remaining bytes")
+        void shouldWriteAtBufferPositionAndDecodeRemainingBytes() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+            buffer.put((byte) 42);
+
+            int written = codec.encode("xxxyy", buffer);
+            buffer.flip().position(1);
+
+            assertEquals(4, written);
+            assertEquals("xxxyy", codec.decode(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        @DisplayName("Should write nothing when the buffer is too small")
+        void shouldWriteNothingWhenTheBufferIsTooSmall() {
+            ByteBuffer buffer = ByteBuffer.allocate(3);
+
+            assertThrows(BufferOverflowException.class, () -> codec.encode("aabbcc", buffer));
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Nested
+    @DisplayName("Malformed Input Tests")
+    class MalformedInputTests {
+
+        @ParameterizedTest
+        @DisplayName("Should reject malformed encoded values")
+        @ValueSource(strings = {"61", "6100", "61ffffffffff01", "c061", "ff01", "e282"})
+        void shouldRejectMalformedEncodedValues(String hex) {
+            byte[] encoded = HexFormat.of().parseHex(hex);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> VarintRunLengthCodec.UTF8.decode(encoded));
+            assertEquals("Input format is invalid", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssctech.ssctech_test_task.services.container;
+
+import com.ssctech.ssctech_test_task.constants.errors.ValidationError;
+import com.ssctech.ssctech_test_task.services.CodecRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Block Container Tests")
+class BlockContainerTest {
+
+    @TempDir
+    private Path directory;
+
+    private static String runs(Random random, int length) {
+        StringBuilder input = new StringBuilder(length);
+        String symbols = "ab1\\ä😀";
+        while (input.length() < length) {
+            int index = random.nextInt(symbols.length() - 1);
+            String symbol = Character.isHighSurrogate(symbols.charAt(index))
+                    ? symbols.substring(index, index + 2) : symbols.substring(index, index + 1);
+            input.append(symbol.repeat(1 + random.nextInt(40)));
+        }
+        return input.toString();
+    }
+
+    private Path write(String input, int codecId, int blockSize) throws IOException {
+        Path file = directory.resolve("text.rleb");
+        new BlockContainerWriter(CodecRegistry.withDefaults(), codecId, blockSize).write(input, file);
+        return file;
+    }
+
+    @Nested
+    @DisplayName("Reading Tests")
+    class ReadingTests {
+
+        @ParameterizedTest
+        @DisplayName("Should round trip through every built-in codec")
+        @ValueSource(ints = {CodecRegistry.PASSTHROUGH, CodecRegistry.VARINT, CodecRegistry.PACKBITS})
+        void shouldRoundTripThroughEveryBuiltInCodec(int codecId) throws IOException {
+            String input = runs(new Random(codecId), 100_000);
+
+            try (BlockContainerReader reader = BlockContainerReader.open(write(input, codecId, 1_000))) {
+                assertEquals(input.length(), reader.length());
+                assertEquals(input, reader.decode());
+                assertEquals(List.of(), reader.verify());
+            }
+        }
+
+        @Test
+        @DisplayName("Should read any range and never split a surrogate pair across blocks")
+        void shouldReadAnyRangeAndNeverSplitASurrogatePairAcrossBlocks() throws IOException {
+            String input = runs(new Random(22), 20_000);
+            Random random = new Random(22);
+
+            try (BlockContainerReader reader = BlockContainerReader.open(write(input, CodecRegistry.VARINT, 97))) {
+                for (int block = 0; block < reader.blockCount(); block++) {
+                    long[] range = reader.blockRange(block);
+                    assertTrue(range[1] - range[0] == 97 || range[1] - range[0] == 98 || range[1] == input.length());
+                    assertFalse(Character.isLowSurrogate(input.charAt((int) range[0])));
+                }
+                for (int i = 0; i < 200; i++) {
+                    int from = random.nextInt(input.length() + 1);
+                    int to = from + random.nextInt(input.length() - from + 1);
+                    assertEquals(input.substring(from, to), reader.read(from, to));
+                }
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.read(5, input.length() + 1));
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle an empty input")
+        void shouldHandleAnEmptyInput() throws IOException {
+            try (BlockContainerReader reader = BlockContainerReader.open(write("", CodecRegistry.VARINT, 16))) {
+                assertEquals(0, reader.blockCount());
+                assertEquals("", reader.decode());
+                assertEquals("", reader.read(0, 0));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Corruption Tests")
+    class CorruptionTests {
+
+        @Test
+        @DisplayName("Should keep intact blocks readable when one block is damaged")
+        void shouldKeepIntactBlocksReadableWhenOneBlockIsDamaged() throws IOException {
+            String input = runs(new Random(7), 10_000);
+            Path file = write(input, CodecRegistry.VARINT, 1_000);
+            long[] damagedRange;
+            try (BlockContainerReader reader = BlockContainerReader.open(file)) {
+                damagedRange = reader.blockRange(3);
+            }
+            flipByte(file, offsetOfBlock(file, 3) + 5);
+
+            try (BlockContainerReader reader = BlockContainerReader.open(file)) {
+                assertEquals(List.of(3), reader.verify());
+                assertEquals(input.substring(0, (int) damagedRange[0]), reader.read(0, damagedRange[0]));
+                assertEquals(input.substring((int) damagedRange[1]), reader.read(damagedRange[1], input.length()));
+                IllegalArgumentException corrupt = assertThrows(IllegalArgumentException.class,
+                        () -> reader.read(damagedRange[0], damagedRange[0] + 1));
+                assertEquals(ValidationError.CORRUPT_BLOCK.getMessage(), corrupt.getMessage());
+                assertThrows(IllegalArgumentException.class, reader::decode);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject files with a damaged index or trailer")
+        void shouldRejectFilesWithADamagedIndexOrTrailer() throws IOException {
+            Path file = write(runs(new Random(8), 5_000), CodecRegistry.VARINT, 1_000);
+            long size = Files.size(file);
+            flipByte(file, size - BlockContainer.TRAILER_LENGTH - 3);
+
+            IllegalArgumentException index = assertThrows(IllegalArgumentException.class,
+                    () -> BlockContainerReader.open(file));
+            assertEquals(ValidationError.INVALID_CONTAINER.getMessage(), index.getMessage());
+
+            Path text = Files.writeString(directory.resolve("plain.txt"), "a5b3c1".repeat(10));
+            assertThrows(IllegalArgumentException.class, () -> BlockContainerReader.open(text));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BlockContainerWriter(CodecRegistry.withDefaults(), CodecRegistry.VARINT, 0));
+        }
+
+        private long offsetOfBlock(Path file, int block) throws IOException {
+            try (BlockContainerReader reader = BlockContainerReader.open(file);
+                 FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                ByteBuffer entry = ByteBuffer.allocate(BlockContainer.INDEX_ENTRY_LENGTH);
+                long indexOffset = size - BlockContainer.TRAILER_LENGTH
+                        - (long) reader.blockCount() * BlockContainer.INDEX_ENTRY_LENGTH;
+                channel.read(entry, indexOffset + (long) block * BlockContainer.INDEX_ENTRY_LENGTH);
+                return entry.flip().getLong(Long.BYTES);
+            }
+        }
+
+        private void flipByte(Path file, long position) throws IOException {
+            byte[] content = Files.readAllBytes(file);
+            content[(int) position] ^= 0x5A;
+            Files.write(file, content);
+        }
+    }
+}